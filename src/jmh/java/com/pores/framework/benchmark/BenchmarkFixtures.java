@@ -0,0 +1,236 @@
+package com.pores.framework.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.search.aggregations.Aggregation;
+import org.elasticsearch.search.aggregations.bucket.terms.ParsedStringTerms;
+import org.elasticsearch.search.aggregations.bucket.terms.StringTerms;
+import org.elasticsearch.xcontent.DeprecationHandler;
+import org.elasticsearch.xcontent.NamedXContentRegistry;
+import org.elasticsearch.xcontent.ParseField;
+import org.elasticsearch.xcontent.XContentParser;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canned inputs shared by the benchmarks: search criteria of increasing complexity, search
+ * responses in the wire format returned by Elasticsearch, and cache payloads.
+ *
+ * <p>Responses are parsed with the same named aggregation parsers the REST High-Level Client
+ * registers, so the resulting {@link SearchResponse} objects behave like real ones.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class BenchmarkFixtures {
+
+  public static final List<String> FACETS = Arrays.asList("category", "brand", "status");
+
+  private static final NamedXContentRegistry REGISTRY =
+      new NamedXContentRegistry(
+          Collections.singletonList(
+              new NamedXContentRegistry.Entry(
+                  Aggregation.class,
+                  new ParseField(StringTerms.NAME),
+                  (parser, name) -> ParsedStringTerms.fromXContent(parser, (String) name))));
+
+  private BenchmarkFixtures() {}
+
+  /**
+   * Creates an ObjectMapper configured the way Spring Boot configures the application mapper.
+   *
+   * @return The ObjectMapper.
+   */
+  public static ObjectMapper objectMapper() {
+    return Jackson2ObjectMapperBuilder.json().build();
+  }
+
+  /**
+   * Creates search criteria of the requested shape.
+   *
+   * @param shape One of {@code simple}, {@code filtered}, {@code faceted} or {@code full}.
+   * @return The search criteria.
+   */
+  public static SearchCriteria searchCriteria(String shape) {
+    SearchCriteria criteria = new SearchCriteria();
+    criteria.setPageNumber(0);
+    criteria.setPageSize(20);
+    switch (shape) {
+      case "simple":
+        criteria.setSearchString("laptop");
+        break;
+      case "filtered":
+        criteria.setFilterCriteriaMap(filters());
+        criteria.setOrderBy("name");
+        criteria.setOrderDirection("asc");
+        break;
+      case "faceted":
+        criteria.setFilterCriteriaMap(filters());
+        criteria.setFacets(FACETS);
+        break;
+      case "full":
+        criteria.setFilterCriteriaMap(filters());
+        criteria.setRangeCriteriaList(
+            Arrays.asList(
+                new SearchCriteria.RangeCriterion("price", new SearchCriteria.Range(10, 500)),
+                new SearchCriteria.RangeCriterion(
+                    "createdOn", new SearchCriteria.Range("2024-01-01", "2024-12-31"))));
+        criteria.setRequestedFields(Arrays.asList("id", "name", "price", "category", "brand"));
+        criteria.setSearchString("laptop");
+        criteria.setOrderBy("name");
+        criteria.setOrderDirection("desc");
+        criteria.setFacets(FACETS);
+        break;
+      default:
+        throw new IllegalArgumentException("Unknown search criteria shape: " + shape);
+    }
+    return criteria;
+  }
+
+  /**
+   * Renders a search response body with the given number of hits and a terms aggregation for each
+   * of the {@link #FACETS}, keyed the way Elasticsearch keys them with {@code typed_keys}.
+   *
+   * @param hits The number of hits in the response.
+   * @param buckets The number of buckets per facet.
+   * @return The response body.
+   */
+  public static String searchResponseJson(int hits, int buckets) {
+    StringBuilder json = new StringBuilder(hits * 400 + buckets * 200);
+    json.append("{\"took\":3,\"timed_out\":false,")
+        .append("\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},")
+        .append("\"hits\":{\"total\":{\"value\":")
+        .append(hits * 10)
+        .append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+    for (int i = 0; i < hits; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"_index\":\"products\",\"_type\":\"_doc\",\"_id\":\"")
+          .append(i)
+          .append("\",\"_score\":1.0,\"_source\":")
+          .append(document(i))
+          .append('}');
+    }
+    json.append("]},\"aggregations\":{");
+    for (int f = 0; f < FACETS.size(); f++) {
+      if (f > 0) {
+        json.append(',');
+      }
+      json.append('"')
+          .append(StringTerms.NAME)
+          .append('#')
+          .append(FACETS.get(f))
+          .append("_agg\":{\"doc_count_error_upper_bound\":0,\"sum_other_doc_count\":0,")
+          .append("\"buckets\":[");
+      for (int b = 0; b < buckets; b++) {
+        if (b > 0) {
+          json.append(',');
+        }
+        json.append("{\"key\":\"")
+            .append(FACETS.get(f))
+            .append('-')
+            .append(b)
+            .append("\",\"doc_count\":")
+            .append(1000 - b)
+            .append('}');
+      }
+      json.append("]}");
+    }
+    return json.append("}}").toString();
+  }
+
+  /**
+   * Parses a search response body into a SearchResponse.
+   *
+   * @param json The response body.
+   * @return The parsed SearchResponse.
+   */
+  public static SearchResponse parseSearchResponse(String json) {
+    try (XContentParser parser =
+        XContentType.JSON
+            .xContent()
+            .createParser(REGISTRY, DeprecationHandler.THROW_UNSUPPORTED_OPERATION, json)) {
+      return SearchResponse.fromXContent(parser);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Creates the list of source maps a page of search results is extracted into.
+   *
+   * @param hits The number of documents.
+   * @return The documents.
+   */
+  public static List<Map<String, Object>> documents(int hits) {
+    List<Map<String, Object>> documents = new ArrayList<>(hits);
+    for (int i = 0; i < hits; i++) {
+      documents.add(documentMap(i));
+    }
+    return documents;
+  }
+
+  /** Typed form of the documents in the canned search responses. */
+  public static class Product {
+    public String id;
+    public String name;
+    public String description;
+    public double price;
+    public String category;
+    public String brand;
+    public String status;
+    public boolean inStock;
+    public String createdOn;
+    public List<String> searchTags;
+    public Map<String, Object> dimensions;
+  }
+
+  private static Map<String, Object> filters() {
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("status", "ACTIVE");
+    filters.put("category", new ArrayList<>(Arrays.asList("electronics", "computers")));
+    filters.put("inStock", Boolean.TRUE);
+    return filters;
+  }
+
+  private static String document(int i) {
+    try {
+      return objectMapper().writeValueAsString(documentMap(i));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Map<String, Object> documentMap(int i) {
+    Map<String, Object> document = new LinkedHashMap<>();
+    document.put("id", "product-" + i);
+    document.put("name", "Product number " + i);
+    document.put(
+        "description", "A reasonably long description for product " + i + " used in tests");
+    document.put("price", 10.5 + i);
+    document.put("category", "category-" + (i % 5));
+    document.put("brand", "brand-" + (i % 7));
+    document.put("status", "ACTIVE");
+    document.put("inStock", i % 3 != 0);
+    document.put("createdOn", "2024-03-15T10:15:30Z");
+    document.put("searchTags", Arrays.asList("tag-" + (i % 11), "tag-" + (i % 13)));
+    Map<String, Object> dimensions = new LinkedHashMap<>();
+    dimensions.put("width", 30 + i % 10);
+    dimensions.put("height", 20 + i % 5);
+    dimensions.put("unit", "cm");
+    document.put("dimensions", dimensions);
+    return document;
+  }
+}
@@ -0,0 +1,75 @@
+package com.pores.framework.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pores.framework.benchmark.BenchmarkFixtures;
+import com.pores.framework.elasticsearch.dto.FacetDTO;
+import com.pores.framework.elasticsearch.dto.SearchResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures serializing the values stored by {@link CacheService}: a cached search result and a
+ * plain list of documents.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheSerializationBenchmark {
+
+  @Param({"10", "100"})
+  private int documents;
+
+  private CacheService cacheService;
+  private SearchResult searchResult;
+  private List<Map<String, Object>> documentList;
+
+  @Setup
+  public void setUp() {
+    ObjectMapper objectMapper = BenchmarkFixtures.objectMapper();
+    cacheService = new CacheService();
+    ReflectionTestUtils.setField(cacheService, "objectMapper", objectMapper);
+    documentList = BenchmarkFixtures.documents(documents);
+    List<FacetDTO> facet = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      facet.add(new FacetDTO("category-" + i, 1000L - i));
+    }
+    searchResult =
+        new SearchResult(
+            objectMapper.valueToTree(documentList),
+            Collections.singletonMap("category", facet),
+            documents * 10L);
+  }
+
+  @Benchmark
+  public String serializeSearchResult() throws JsonProcessingException {
+    return cacheService.serializeValue(searchResult);
+  }
+
+  @Benchmark
+  public String serializeDocuments() throws JsonProcessingException {
+    return cacheService.serializeValue(documentList);
+  }
+}
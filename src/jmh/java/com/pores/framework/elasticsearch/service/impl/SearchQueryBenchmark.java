@@ -0,0 +1,58 @@
+package com.pores.framework.elasticsearch.service.impl;
+
+import com.pores.framework.benchmark.BenchmarkFixtures;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import org.elasticsearch.search.builder.SearchSourceBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building the Elasticsearch query for search criteria of increasing complexity, and
+ * rendering it to the JSON source that is sent over the wire.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchQueryBenchmark {
+
+  @Param({"simple", "filtered", "faceted", "full"})
+  private String shape;
+
+  private EsUtilServiceImpl esUtilService;
+  private SearchCriteria searchCriteria;
+
+  @Setup
+  public void setUp() {
+    esUtilService = new EsUtilServiceImpl();
+    ReflectionTestUtils.setField(esUtilService, "objectMapper", BenchmarkFixtures.objectMapper());
+    searchCriteria = BenchmarkFixtures.searchCriteria(shape);
+  }
+
+  @Benchmark
+  public SearchSourceBuilder buildSearchSourceBuilder() {
+    return esUtilService.buildSearchSourceBuilder(searchCriteria);
+  }
+
+  @Benchmark
+  public String buildAndRenderSearchSource() {
+    return esUtilService.buildSearchSourceBuilder(searchCriteria).toString();
+  }
+}
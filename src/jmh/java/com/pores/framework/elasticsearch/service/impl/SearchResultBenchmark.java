@@ -0,0 +1,134 @@
+package com.pores.framework.elasticsearch.service.impl;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pores.framework.benchmark.BenchmarkFixtures;
+import com.pores.framework.benchmark.BenchmarkFixtures.Product;
+import com.pores.framework.elasticsearch.dto.FacetDTO;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.search.SearchHit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures turning a search response into a search result: extracting the hit sources, converting
+ * them to a tree with {@code valueToTree}, and extracting the facet buckets.
+ *
+ * <p>Binding the hits to a type is measured both directly from the source bytes, as the typed
+ * search does, and through the source maps with {@code convertValue}, as callers of the map based
+ * search had to.
+ *
+ * <p>{@code SearchHit} memoizes its source map. Instead of re-parsing the response before every
+ * invocation, whose allocations the GC profiler would attribute to the benchmark, the extraction
+ * benchmarks clear the memoized maps of a response parsed once, which allocates nothing. {@link
+ * #parseResponse()} measures the parse on its own.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SearchResultBenchmark {
+
+  @Param({"10", "100"})
+  private int hits;
+
+  @Param({"10", "250"})
+  private int buckets;
+
+  private EsUtilServiceImpl esUtilService;
+  private ObjectMapper objectMapper;
+  private ObjectReader productReader;
+  private SearchCriteria searchCriteria;
+  private String responseJson;
+  private SearchResponse facetResponse;
+  private SearchResponse hitsResponse;
+  private Field sourceAsMap;
+
+  @Setup
+  public void setUp() throws NoSuchFieldException {
+    objectMapper = BenchmarkFixtures.objectMapper();
+    esUtilService = new EsUtilServiceImpl();
+    ReflectionTestUtils.setField(esUtilService, "objectMapper", objectMapper);
+    productReader = objectMapper.readerFor(Product.class);
+    searchCriteria = BenchmarkFixtures.searchCriteria("faceted");
+    responseJson = BenchmarkFixtures.searchResponseJson(hits, buckets);
+    facetResponse = BenchmarkFixtures.parseSearchResponse(responseJson);
+    hitsResponse = BenchmarkFixtures.parseSearchResponse(responseJson);
+    sourceAsMap = SearchHit.class.getDeclaredField("sourceAsMap");
+    sourceAsMap.setAccessible(true);
+  }
+
+  @Benchmark
+  public SearchResponse parseResponse() {
+    return BenchmarkFixtures.parseSearchResponse(responseJson);
+  }
+
+  @Benchmark
+  public List<Map<String, Object>> extractPaginatedResult() {
+    return esUtilService.extractPaginatedResult(freshResponse());
+  }
+
+  @Benchmark
+  public JsonNode extractPaginatedResultToTree() {
+    return objectMapper.valueToTree(esUtilService.extractPaginatedResult(freshResponse()));
+  }
+
+  @Benchmark
+  public List<Product> extractTypedResult() throws IOException {
+    return esUtilService.extractTypedResult(freshResponse(), productReader);
+  }
+
+  @Benchmark
+  public List<Product> extractPaginatedResultToType() {
+    List<Product> products = new ArrayList<>(hits);
+    for (Map<String, Object> source : esUtilService.extractPaginatedResult(freshResponse())) {
+      products.add(objectMapper.convertValue(source, Product.class));
+    }
+    return products;
+  }
+
+  @Benchmark
+  public Map<String, List<FacetDTO>> extractFacetData() {
+    return esUtilService.extractFacetData(facetResponse, searchCriteria);
+  }
+
+  /**
+   * Clears the source maps memoized by the hits, so the next extraction converts the sources again.
+   *
+   * @return The response with fresh hits.
+   */
+  private SearchResponse freshResponse() {
+    try {
+      for (SearchHit hit : hitsResponse.getHits().getHits()) {
+        sourceAsMap.set(hit, null);
+      }
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException(e);
+    }
+    return hitsResponse;
+  }
+}
@@ -0,0 +1,214 @@
+package com.pores.framework.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process HTTP stand-in for an Elasticsearch node. It answers the product check performed by
+ * the REST High-Level Client, {@code _search}, single document {@code _doc} writes and deletes, and
+ * the {@code _create} writes of documents with generated identifiers with canned responses.
+ *
+ * <p>Responses are delayed by a configurable latency plus uniform jitter without holding a thread,
+ * so the stub itself does not become the bottleneck at high request rates. Search responses carry
+ * a configurable number of hits with sources of roughly the configured size.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class EsStubServer implements AutoCloseable {
+
+  private static final String VERSION = "7.17.13";
+
+  private final long latencyMicros;
+  private final long jitterMicros;
+  private final byte[] searchResponse;
+  private final HttpServer server;
+  private final ExecutorService requestExecutor;
+  private final ScheduledExecutorService responseScheduler;
+
+  /**
+   * Creates and starts the stub on an ephemeral port.
+   *
+   * @param latencyMs The fixed delay applied to every response.
+   * @param jitterMs The maximum additional random delay applied to every response.
+   * @param hitsPerPage The number of hits returned by every search.
+   * @param documentBytes The approximate size of every hit source.
+   * @throws IOException If the server socket cannot be bound.
+   */
+  public EsStubServer(long latencyMs, long jitterMs, int hitsPerPage, int documentBytes)
+      throws IOException {
+    this.latencyMicros = TimeUnit.MILLISECONDS.toMicros(latencyMs);
+    this.jitterMicros = TimeUnit.MILLISECONDS.toMicros(jitterMs);
+    this.searchResponse = renderSearchResponse(hitsPerPage, documentBytes);
+    // Headers and body are written separately, without TCP_NODELAY every response waits for the
+    // delayed ACK of the client
+    System.setProperty("sun.net.httpserver.nodelay", "true");
+    this.requestExecutor = Executors.newFixedThreadPool(8, daemon("es-stub-request"));
+    this.responseScheduler = Executors.newScheduledThreadPool(4, daemon("es-stub-response"));
+    this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+    server.createContext("/", this::handle);
+    server.setExecutor(requestExecutor);
+    server.start();
+  }
+
+  /**
+   * Returns the port the stub listens on.
+   *
+   * @return The port.
+   */
+  public int getPort() {
+    return server.getAddress().getPort();
+  }
+
+  @Override
+  public void close() {
+    server.stop(0);
+    responseScheduler.shutdownNow();
+    requestExecutor.shutdownNow();
+  }
+
+  /**
+   * Dispatches a request on its method and path, then schedules the response.
+   *
+   * @param exchange The HTTP exchange.
+   * @throws IOException If the request body cannot be read.
+   */
+  private void handle(HttpExchange exchange) throws IOException {
+    String method = exchange.getRequestMethod();
+    String[] path = exchange.getRequestURI().getPath().split("/");
+    int status = 200;
+    byte[] body;
+    if (path.length <= 1 && ("GET".equals(method) || "HEAD".equals(method))) {
+      drain(exchange.getRequestBody());
+      body = info();
+    } else if (path[path.length - 1].equals("_search")) {
+      drain(exchange.getRequestBody());
+      body = searchResponse;
+    } else if (path.length >= 4 && (path[2].equals("_doc") || path[2].equals("_create"))) {
+      drain(exchange.getRequestBody());
+      boolean delete = "DELETE".equals(method);
+      status = delete ? 200 : 201;
+      body = documentWrite(path[1], path[3], delete ? "deleted" : "created");
+    } else {
+      drain(exchange.getRequestBody());
+      status = 404;
+      body = "{\"error\":\"unsupported by stub\",\"status\":404}".getBytes(StandardCharsets.UTF_8);
+    }
+    int responseStatus = status;
+    long delay =
+        latencyMicros
+            + (jitterMicros > 0 ? ThreadLocalRandom.current().nextLong(jitterMicros + 1) : 0);
+    responseScheduler.schedule(
+        () -> respond(exchange, responseStatus, body), delay, TimeUnit.MICROSECONDS);
+  }
+
+  /**
+   * Writes a JSON response and completes the exchange.
+   *
+   * @param exchange The HTTP exchange.
+   * @param status The HTTP status.
+   * @param body The response body.
+   */
+  private void respond(HttpExchange exchange, int status, byte[] body) {
+    try (OutputStream out = exchange.getResponseBody()) {
+      exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+      exchange.getResponseHeaders().set("X-Elastic-Product", "Elasticsearch");
+      if ("HEAD".equals(exchange.getRequestMethod())) {
+        exchange.sendResponseHeaders(status, -1);
+      } else {
+        exchange.sendResponseHeaders(status, body.length);
+        out.write(body);
+      }
+    } catch (IOException e) {
+      log.warn("Stub failed to write response: {}", e.getMessage());
+    } finally {
+      exchange.close();
+    }
+  }
+
+  private byte[] info() {
+    return ("{\"name\":\"stub\",\"cluster_name\":\"stub\",\"cluster_uuid\":\"stub\","
+            + "\"version\":{\"number\":\""
+            + VERSION
+            + "\",\"build_flavor\":\"default\",\"build_type\":\"tar\",\"build_hash\":\"stub\","
+            + "\"build_date\":\"2023-08-31T02:33:05.000Z\",\"build_snapshot\":false,"
+            + "\"lucene_version\":\"8.11.1\","
+            + "\"minimum_wire_compatibility_version\":\"6.8.0\","
+            + "\"minimum_index_compatibility_version\":\"6.0.0-beta1\"},"
+            + "\"tagline\":\"You Know, for Search\"}")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private byte[] documentWrite(String index, String id, String result) {
+    return ("{\"_index\":\""
+            + index
+            + "\",\"_type\":\"_doc\",\"_id\":\""
+            + id
+            + "\",\"_version\":1,\"result\":\""
+            + result
+            + "\",\"_shards\":{\"total\":1,\"successful\":1,\"failed\":0},"
+            + "\"_seq_no\":0,\"_primary_term\":1}")
+        .getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static byte[] renderSearchResponse(int hits, int documentBytes) {
+    String padding = "x".repeat(Math.max(0, documentBytes - 120));
+    StringBuilder json = new StringBuilder(hits * (documentBytes + 100) + 256);
+    json.append("{\"took\":1,\"timed_out\":false,")
+        .append("\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},")
+        .append("\"hits\":{\"total\":{\"value\":")
+        .append(hits * 100)
+        .append(",\"relation\":\"eq\"},\"max_score\":1.0,\"hits\":[");
+    for (int i = 0; i < hits; i++) {
+      if (i > 0) {
+        json.append(',');
+      }
+      json.append("{\"_index\":\"loadtest\",\"_type\":\"_doc\",\"_id\":\"")
+          .append(i)
+          .append("\",\"_score\":1.0,\"_source\":{\"id\":\"")
+          .append(i)
+          .append("\",\"name\":\"Document ")
+          .append(i)
+          .append("\",\"status\":\"ACTIVE\",\"price\":")
+          .append(i)
+          .append(",\"description\":\"")
+          .append(padding)
+          .append("\"}}");
+    }
+    return json.append("]}}").toString().getBytes(StandardCharsets.UTF_8);
+  }
+
+  private static void drain(InputStream in) throws IOException {
+    try (InputStream body = in) {
+      body.transferTo(OutputStream.nullOutputStream());
+    }
+  }
+
+  /**
+   * Creates a thread factory for daemon threads, so stubs never keep the JVM alive.
+   *
+   * @param name The thread name.
+   * @return The thread factory.
+   */
+  static ThreadFactory daemon(String name) {
+    return runnable -> {
+      Thread thread = new Thread(runnable, name);
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
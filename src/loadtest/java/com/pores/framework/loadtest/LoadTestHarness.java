@@ -0,0 +1,368 @@
+package com.pores.framework.loadtest;
+
+import com.pores.framework.PoresFrameworkApplication;
+import com.pores.framework.cache.CacheService;
+import com.pores.framework.constant.Constants;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.elasticsearch.prefetch.SearchPrefetcher;
+import com.pores.framework.elasticsearch.service.EsUtilService;
+import com.pores.framework.loadtest.LoadTestOptions.Operation;
+import com.pores.framework.metrics.PoresMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Drives {@link EsUtilService} and {@link CacheService} at a target request rate against
+ * in-process stand-ins for Elasticsearch and Redis, and reports latency percentiles and
+ * throughput per operation.
+ *
+ * <p>Every worker thread issues requests on a fixed schedule and latency is measured from the
+ * intended start time, so a stalled client shows up as queueing delay instead of silently lowering
+ * the request rate. Peak values of the connection pool gauges are sampled during the run so pool
+ * settings can be compared between runs. The cache service logs and swallows Redis failures, so
+ * cache errors are read from its {@code error} outcome timers instead. Run with:
+ *
+ * <pre>
+ * mvn -Ploadtest test-compile exec:exec -Dloadtest.args="qps=2000 threads=128 duration=60"
+ * </pre>
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public final class LoadTestHarness {
+
+  private static final String INDEX = "loadtest";
+  private static final String SCHEMA_PATH = "/loadtest/document-schema.json";
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+  private static final int PAGES_PER_SESSION = 10;
+
+  private final LoadTestOptions options;
+  private final EsUtilService esUtilService;
+  private final CacheService cacheService;
+  private final MeterRegistry meterRegistry;
+  private final Operation[] schedule;
+  private final Map<Operation, Recorder> recorders = new EnumMap<>(Operation.class);
+  private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+  private final Map<String, Double> peakGauges = new ConcurrentHashMap<>();
+
+  private LoadTestHarness(
+      LoadTestOptions options,
+      EsUtilService esUtilService,
+      CacheService cacheService,
+      MeterRegistry meterRegistry) {
+    this.options = options;
+    this.esUtilService = esUtilService;
+    this.cacheService = cacheService;
+    this.meterRegistry = meterRegistry;
+    List<Operation> weighted = new ArrayList<>();
+    options
+        .getMix()
+        .forEach((operation, weight) -> weighted.addAll(Collections.nCopies(weight, operation)));
+    this.schedule = weighted.toArray(new Operation[0]);
+    for (Operation operation : options.getMix().keySet()) {
+      recorders.put(operation, new Recorder(HIGHEST_TRACKABLE_MICROS, 3));
+      errors.put(operation, new LongAdder());
+    }
+  }
+
+  public static void main(String[] args) throws Exception {
+    LoadTestOptions options = LoadTestOptions.parse(args);
+    try (EsStubServer es =
+            new EsStubServer(
+                options.getEsLatencyMs(),
+                options.getEsJitterMs(),
+                options.getHits(),
+                options.getDocumentBytes());
+        RespStubServer redis = new RespStubServer(options.getRedisLatencyMs());
+        ConfigurableApplicationContext context = startFramework(options, es, redis)) {
+      LoadTestHarness harness =
+          new LoadTestHarness(
+              options,
+              context.getBean(EsUtilService.class),
+              context.getBean(CacheService.class),
+              context.getBean(MeterRegistry.class));
+      harness.run();
+    }
+  }
+
+  /**
+   * Starts the framework without a web server, pointed at the stand-ins.
+   *
+   * @param options The load test options.
+   * @param es The Elasticsearch stand-in.
+   * @param redis The Redis stand-in.
+   * @return The running application context.
+   */
+  private static ConfigurableApplicationContext startFramework(
+      LoadTestOptions options, EsStubServer es, RespStubServer redis) {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("pores.framework.elasticsearch.host", "127.0.0.1");
+    properties.put("pores.framework.elasticsearch.port", es.getPort());
+    properties.put("pores.framework.redis.host", "127.0.0.1");
+    properties.put("pores.framework.redis.port", redis.getPort());
+    properties.putAll(options.getFrameworkProperties());
+    return new SpringApplicationBuilder(PoresFrameworkApplication.class)
+        .web(WebApplicationType.NONE)
+        .logStartupInfo(false)
+        .properties(properties)
+        .run();
+  }
+
+  /**
+   * Runs the warmup and measurement phases and prints the report.
+   *
+   * @throws InterruptedException If interrupted while waiting for the workers.
+   */
+  private void run() throws InterruptedException {
+    int threads = options.getThreads();
+    long intervalNanos = TimeUnit.SECONDS.toNanos(threads) / options.getQps();
+    long start = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(100);
+    long measureFrom = start + TimeUnit.SECONDS.toNanos(options.getWarmupSeconds());
+    long end = measureFrom + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+
+    ScheduledExecutorService sampler =
+        Executors.newSingleThreadScheduledExecutor(EsStubServer.daemon("loadtest-sampler"));
+    sampler.scheduleAtFixedRate(this::samplePoolGauges, 100, 100, TimeUnit.MILLISECONDS);
+    ExecutorService workers =
+        Executors.newFixedThreadPool(threads, EsStubServer.daemon("loadtest"));
+    for (int i = 0; i < threads; i++) {
+      long firstStart = start + intervalNanos * i / threads;
+      workers.execute(() -> drive(firstStart, intervalNanos, end));
+    }
+
+    sleepUntil(measureFrom);
+    Map<Operation, Long> errorsAtWarmupEnd = new EnumMap<>(Operation.class);
+    recorders.forEach(
+        (operation, recorder) -> {
+          recorder.getIntervalHistogram();
+          errorsAtWarmupEnd.put(operation, errorCount(operation));
+        });
+    peakGauges.clear();
+
+    workers.shutdown();
+    workers.awaitTermination(
+        options.getDurationSeconds() + TimeUnit.MINUTES.toSeconds(1), TimeUnit.SECONDS);
+    long measuredNanos = System.nanoTime() - measureFrom;
+    sampler.shutdownNow();
+    report(measuredNanos, errorsAtWarmupEnd);
+  }
+
+  /**
+   * Issues requests on a fixed schedule until the end of the run.
+   *
+   * @param firstStart The intended start time of the first request.
+   * @param intervalNanos The time between the intended starts of consecutive requests.
+   * @param end The end of the run.
+   */
+  private void drive(long firstStart, long intervalNanos, long end) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    SearchCriteria searchCriteria = new SearchCriteria();
+    searchCriteria.setPageSize(options.getHits());
+    searchCriteria.setFilterCriteriaMap(Collections.singletonMap("status", "ACTIVE"));
+    SearchCriteria pagingCriteria = new SearchCriteria();
+    pagingCriteria.setPageSize(options.getHits());
+    for (long intended = firstStart; intended < end; intended += intervalNanos) {
+      sleepUntil(intended);
+      Operation operation = schedule[random.nextInt(schedule.length)];
+      boolean success;
+      try {
+        success = execute(operation, searchCriteria, pagingCriteria, random);
+      } catch (RuntimeException e) {
+        success = false;
+      }
+      long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - intended);
+      recorders.get(operation).recordValue(Math.min(latencyMicros, HIGHEST_TRACKABLE_MICROS));
+      if (!success) {
+        errors.get(operation).increment();
+      }
+    }
+  }
+
+  /**
+   * Executes one operation against the framework.
+   *
+   * @param operation The operation.
+   * @param searchCriteria The criteria used for searches.
+   * @param pagingCriteria The criteria of the calling thread's paging session, advanced by one
+   *     page per call and restarted on a new session after {@value #PAGES_PER_SESSION} pages.
+   * @param random The random source of the calling thread.
+   * @return True if the operation reported success. Cache operations always do, their errors are
+   *     counted by {@link #errorCount(Operation)}.
+   */
+  private boolean execute(
+      Operation operation,
+      SearchCriteria searchCriteria,
+      SearchCriteria pagingCriteria,
+      ThreadLocalRandom random) {
+    String key = "loadtest:" + random.nextInt(10_000);
+    switch (operation) {
+      case SEARCH:
+        return esUtilService.searchDocuments(INDEX, searchCriteria) != null;
+      case PAGE:
+        if (pagingCriteria.getPageNumber() == 0) {
+          pagingCriteria.setFilterCriteriaMap(
+              Collections.singletonMap("session", String.valueOf(random.nextLong())));
+        }
+        boolean found = esUtilService.searchDocuments(INDEX, pagingCriteria) != null;
+        int nextPageNumber = pagingCriteria.getPageNumber() + pagingCriteria.getPageSize();
+        pagingCriteria.setPageNumber(
+            nextPageNumber < PAGES_PER_SESSION * pagingCriteria.getPageSize()
+                ? nextPageNumber
+                : 0);
+        return found;
+      case INDEX:
+        Map<String, Object> document = new HashMap<>();
+        document.put("name", "Document " + key);
+        document.put("status", "ACTIVE");
+        document.put("price", random.nextInt(1000));
+        return esUtilService.addDocument(
+                INDEX, Constants.INDEX_TYPE, key.substring(9), document, SCHEMA_PATH)
+            != null;
+      case CACHE_GET:
+        cacheService.getCache(key);
+        return true;
+      case CACHE_PUT:
+        cacheService.putCache(key, searchCriteria);
+        return true;
+      default:
+        throw new IllegalStateException("Unsupported operation: " + operation);
+    }
+  }
+
+  /**
+   * Returns the number of failed calls of an operation so far: calls that threw or reported no
+   * result, plus for cache operations the calls the cache service recorded with the error outcome.
+   *
+   * @param operation The operation.
+   * @return The number of errors.
+   */
+  private long errorCount(Operation operation) {
+    long count = errors.get(operation).sum();
+    String cacheOperation;
+    if (operation == Operation.CACHE_GET) {
+      cacheOperation = Constants.CACHE_OPERATION_GET;
+    } else if (operation == Operation.CACHE_PUT) {
+      cacheOperation = Constants.CACHE_OPERATION_PUT;
+    } else {
+      return count;
+    }
+    for (Timer timer :
+        meterRegistry
+            .find(PoresMetrics.CACHE_OPERATION)
+            .tag("operation", cacheOperation)
+            .tag("outcome", PoresMetrics.OUTCOME_ERROR)
+            .timers()) {
+      count += timer.count();
+    }
+    return count;
+  }
+
+  /** Remembers the peak value of every connection pool gauge. */
+  private void samplePoolGauges() {
+    meterRegistry.getMeters().stream()
+        .filter(meter -> meter instanceof Gauge && isPoolGauge(meter.getId().getName()))
+        .map(Gauge.class::cast)
+        .forEach(gauge -> peakGauges.merge(gauge.getId().getName(), gauge.value(), Math::max));
+  }
+
+  private static boolean isPoolGauge(String name) {
+    return name.startsWith("pores.") && name.contains(".pool.");
+  }
+
+  /**
+   * Prints throughput, errors and latency percentiles per operation, followed by the peak pool
+   * gauge values observed while measuring and, if prefetching is enabled, the prefetch outcomes.
+   *
+   * @param measuredNanos The length of the measurement phase.
+   * @param errorsAtWarmupEnd The error counts at the end of the warmup phase.
+   */
+  private void report(long measuredNanos, Map<Operation, Long> errorsAtWarmupEnd) {
+    double seconds = measuredNanos / 1e9;
+    System.out.printf(
+        "%nTarget %d req/s from %d threads, measured %.1f s after %d s warmup%n%n",
+        options.getQps(), options.getThreads(), seconds, options.getWarmupSeconds());
+    System.out.printf(
+        "%-10s %10s %10s %8s %10s %10s %10s %10s %10s%n",
+        "operation",
+        "count",
+        "req/s",
+        "errors",
+        "p50 ms",
+        "p90 ms",
+        "p99 ms",
+        "p99.9 ms",
+        "max ms");
+    Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+    long totalErrors = 0;
+    for (Map.Entry<Operation, Recorder> entry : recorders.entrySet()) {
+      Histogram histogram = entry.getValue().getIntervalHistogram();
+      long operationErrors =
+          errorCount(entry.getKey()) - errorsAtWarmupEnd.get(entry.getKey());
+      total.add(histogram);
+      totalErrors += operationErrors;
+      printRow(entry.getKey().name().toLowerCase(), histogram, operationErrors, seconds);
+    }
+    printRow("total", total, totalErrors, seconds);
+    System.out.printf("%nPeak pool gauges%n");
+    new TreeMap<>(peakGauges)
+        .forEach((name, value) -> System.out.printf("  %-40s %10.0f%n", name, value));
+    Map<String, Double> prefetches = new TreeMap<>();
+    meterRegistry
+        .find(SearchPrefetcher.PREFETCH)
+        .counters()
+        .forEach(
+            counter ->
+                prefetches.merge(counter.getId().getTag("outcome"), counter.count(), Double::sum));
+    if (!prefetches.isEmpty()) {
+      System.out.printf("%nPrefetched pages%n");
+      prefetches.forEach((outcome, count) -> System.out.printf("  %-40s %10.0f%n", outcome, count));
+      System.out.printf(
+          "  %-40s %10.2f%n",
+          "waste ratio",
+          meterRegistry.get(SearchPrefetcher.PREFETCH_WASTE_RATIO).gauge().value());
+    }
+  }
+
+  private static void printRow(String name, Histogram histogram, long errors, double seconds) {
+    System.out.printf(
+        "%-10s %10d %10.1f %8d %10.2f %10.2f %10.2f %10.2f %10.2f%n",
+        name,
+        histogram.getTotalCount(),
+        histogram.getTotalCount() / seconds,
+        errors,
+        histogram.getValueAtPercentile(50) / 1000.0,
+        histogram.getValueAtPercentile(90) / 1000.0,
+        histogram.getValueAtPercentile(99) / 1000.0,
+        histogram.getValueAtPercentile(99.9) / 1000.0,
+        histogram.getMaxValue() / 1000.0);
+  }
+
+  private static void sleepUntil(long deadline) {
+    long remaining;
+    while ((remaining = deadline - System.nanoTime()) > 0) {
+      LockSupport.parkNanos(remaining);
+    }
+  }
+}
@@ -0,0 +1,122 @@
+package com.pores.framework.loadtest;
+
+import lombok.Getter;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Options of a load test run, parsed from {@code key=value} arguments. Arguments starting with
+ * {@code pores.} are passed through to the framework configuration, so pool settings such as
+ * {@code pores.framework.redis.maxTotal=64} can be compared between runs.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class LoadTestOptions {
+
+  /** Operations the harness can drive, weighted by {@link #getMix()}. */
+  public enum Operation {
+    SEARCH,
+    PAGE,
+    INDEX,
+    CACHE_GET,
+    CACHE_PUT
+  }
+
+  private int qps = 500;
+  private int threads = 64;
+  private int durationSeconds = 30;
+  private int warmupSeconds = 5;
+  private long esLatencyMs = 5;
+  private long esJitterMs = 5;
+  private long redisLatencyMs = 0;
+  private int hits = 20;
+  private int documentBytes = 512;
+  private Map<Operation, Integer> mix = parseMix("search=60,index=20,cache_get=15,cache_put=5");
+  private final Map<String, String> frameworkProperties = new LinkedHashMap<>();
+
+  /**
+   * Parses the command line arguments.
+   *
+   * @param args Arguments of the form {@code key=value}.
+   * @return The parsed options.
+   * @throws IllegalArgumentException If an argument is malformed or unknown.
+   */
+  public static LoadTestOptions parse(String[] args) {
+    LoadTestOptions options = new LoadTestOptions();
+    for (String arg : args) {
+      int separator = arg.indexOf('=');
+      if (separator <= 0) {
+        throw new IllegalArgumentException("Expected key=value but got: " + arg);
+      }
+      String key = arg.substring(0, separator);
+      String value = arg.substring(separator + 1);
+      if (key.startsWith("pores.")) {
+        options.frameworkProperties.put(key, value);
+        continue;
+      }
+      switch (key) {
+        case "qps":
+          options.qps = Integer.parseInt(value);
+          break;
+        case "threads":
+          options.threads = Integer.parseInt(value);
+          break;
+        case "duration":
+          options.durationSeconds = Integer.parseInt(value);
+          break;
+        case "warmup":
+          options.warmupSeconds = Integer.parseInt(value);
+          break;
+        case "esLatencyMs":
+          options.esLatencyMs = Long.parseLong(value);
+          break;
+        case "esJitterMs":
+          options.esJitterMs = Long.parseLong(value);
+          break;
+        case "redisLatencyMs":
+          options.redisLatencyMs = Long.parseLong(value);
+          break;
+        case "hits":
+          options.hits = Integer.parseInt(value);
+          break;
+        case "documentBytes":
+          options.documentBytes = Integer.parseInt(value);
+          break;
+        case "mix":
+          options.mix = parseMix(value);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown option: " + key);
+      }
+    }
+    if (options.qps <= 0 || options.threads <= 0 || options.durationSeconds <= 0) {
+      throw new IllegalArgumentException("qps, threads and duration must be positive");
+    }
+    return options;
+  }
+
+  /**
+   * Parses an operation mix such as {@code search=60,index=20}.
+   *
+   * @param value The mix.
+   * @return The weight of every operation in the mix.
+   */
+  private static Map<Operation, Integer> parseMix(String value) {
+    Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+    for (String entry : value.split(",")) {
+      String[] parts = entry.trim().split("=");
+      int weight = Integer.parseInt(parts[1].trim());
+      if (weight > 0) {
+        weights.put(Operation.valueOf(parts[0].trim().toUpperCase()), weight);
+      }
+    }
+    if (weights.isEmpty()) {
+      throw new IllegalArgumentException("The operation mix is empty");
+    }
+    return weights;
+  }
+}
@@ -0,0 +1,241 @@
+package com.pores.framework.loadtest;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Minimal in-process stand-in for a Redis server speaking RESP2. It supports the commands used by
+ * the Jedis client and {@code CacheService}: {@code PING}, {@code AUTH}, {@code SELECT}, {@code
+ * CLIENT}, {@code SET}, {@code GET}, {@code DEL}, {@code EXPIRE} and {@code QUIT}.
+ *
+ * <p>Values are kept in memory and expirations are accepted but not enforced. Every connection is
+ * served by its own thread, matching the one-command-at-a-time usage of a pooled Jedis connection.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class RespStubServer implements AutoCloseable {
+
+  private static final byte[] OK = "+OK\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] PONG = "+PONG\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] NIL = "$-1\r\n".getBytes(StandardCharsets.US_ASCII);
+  private static final byte[] CRLF = "\r\n".getBytes(StandardCharsets.US_ASCII);
+
+  private final Map<String, byte[]> store = new ConcurrentHashMap<>();
+  private final long latencyMicros;
+  private final ServerSocket serverSocket;
+  private final ExecutorService connectionExecutor;
+
+  /**
+   * Creates and starts the stub on an ephemeral port.
+   *
+   * @param latencyMs The delay applied before answering every command.
+   * @throws IOException If the server socket cannot be bound.
+   */
+  public RespStubServer(long latencyMs) throws IOException {
+    this.latencyMicros = TimeUnit.MILLISECONDS.toMicros(latencyMs);
+    this.serverSocket = new ServerSocket(0, 1024, InetAddress.getLoopbackAddress());
+    this.connectionExecutor = Executors.newCachedThreadPool(EsStubServer.daemon("resp-stub"));
+    connectionExecutor.execute(this::acceptLoop);
+  }
+
+  /**
+   * Returns the port the stub listens on.
+   *
+   * @return The port.
+   */
+  public int getPort() {
+    return serverSocket.getLocalPort();
+  }
+
+  @Override
+  public void close() throws IOException {
+    serverSocket.close();
+    connectionExecutor.shutdownNow();
+  }
+
+  private void acceptLoop() {
+    while (!serverSocket.isClosed()) {
+      try {
+        Socket socket = serverSocket.accept();
+        socket.setTcpNoDelay(true);
+        connectionExecutor.execute(() -> serve(socket));
+      } catch (IOException e) {
+        if (!serverSocket.isClosed()) {
+          log.warn("Stub failed to accept connection: {}", e.getMessage());
+        }
+      }
+    }
+  }
+
+  /**
+   * Reads commands from a connection and answers them until the client disconnects.
+   *
+   * @param socket The client connection.
+   */
+  private void serve(Socket socket) {
+    try (Socket client = socket;
+        InputStream in = new BufferedInputStream(client.getInputStream());
+        OutputStream out = new BufferedOutputStream(client.getOutputStream())) {
+      while (true) {
+        List<byte[]> command = readCommand(in);
+        if (command.isEmpty()) {
+          continue;
+        }
+        if (latencyMicros > 0) {
+          TimeUnit.MICROSECONDS.sleep(latencyMicros);
+        }
+        String name =
+            new String(command.get(0), StandardCharsets.US_ASCII).toUpperCase(Locale.ROOT);
+        boolean quit = execute(name, command, out);
+        out.flush();
+        if (quit) {
+          return;
+        }
+      }
+    } catch (EOFException e) {
+      // Client disconnected
+    } catch (IOException e) {
+      log.debug("Stub connection closed: {}", e.getMessage());
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Executes one command and writes its reply.
+   *
+   * @param name The upper-cased command name.
+   * @param command The command name followed by its arguments.
+   * @param out The stream the reply is written to.
+   * @return True if the connection should be closed.
+   * @throws IOException If the reply cannot be written.
+   */
+  private boolean execute(String name, List<byte[]> command, OutputStream out) throws IOException {
+    switch (name) {
+      case "PING":
+        out.write(PONG);
+        return false;
+      case "AUTH":
+      case "SELECT":
+      case "CLIENT":
+        out.write(OK);
+        return false;
+      case "QUIT":
+        out.write(OK);
+        return true;
+      case "SET":
+        store.put(key(command, 1), command.get(2));
+        out.write(OK);
+        return false;
+      case "SETEX":
+        store.put(key(command, 1), command.get(3));
+        out.write(OK);
+        return false;
+      case "GET":
+        writeBulk(out, store.get(key(command, 1)));
+        return false;
+      case "DEL":
+        long deleted = 0;
+        for (int i = 1; i < command.size(); i++) {
+          deleted += store.remove(key(command, i)) != null ? 1 : 0;
+        }
+        writeInteger(out, deleted);
+        return false;
+      case "EXPIRE":
+        writeInteger(out, store.containsKey(key(command, 1)) ? 1 : 0);
+        return false;
+      default:
+        out.write(
+            ("-ERR unknown command '" + name + "'\r\n").getBytes(StandardCharsets.US_ASCII));
+        return false;
+    }
+  }
+
+  private static String key(List<byte[]> command, int position) {
+    return new String(command.get(position), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Reads a command sent as a RESP array of bulk strings, or as an inline command.
+   *
+   * @param in The stream to read from.
+   * @return The command name followed by its arguments.
+   * @throws IOException If the stream ends or the command is malformed.
+   */
+  private static List<byte[]> readCommand(InputStream in) throws IOException {
+    int type = in.read();
+    if (type == -1) {
+      throw new EOFException();
+    }
+    List<byte[]> command = new ArrayList<>();
+    if (type != '*') {
+      String inline = (char) type + readLine(in);
+      for (String part : inline.trim().split("\\s+")) {
+        if (!part.isEmpty()) {
+          command.add(part.getBytes(StandardCharsets.UTF_8));
+        }
+      }
+      return command;
+    }
+    int count = Integer.parseInt(readLine(in));
+    for (int i = 0; i < count; i++) {
+      if (in.read() != '$') {
+        throw new IOException("Expected bulk string");
+      }
+      int length = Integer.parseInt(readLine(in));
+      byte[] argument = in.readNBytes(length);
+      if (argument.length != length || in.read() != '\r' || in.read() != '\n') {
+        throw new EOFException();
+      }
+      command.add(argument);
+    }
+    return command;
+  }
+
+  private static String readLine(InputStream in) throws IOException {
+    StringBuilder line = new StringBuilder();
+    int c;
+    while ((c = in.read()) != '\r') {
+      if (c == -1) {
+        throw new EOFException();
+      }
+      line.append((char) c);
+    }
+    in.read();
+    return line.toString();
+  }
+
+  private static void writeBulk(OutputStream out, byte[] value) throws IOException {
+    if (value == null) {
+      out.write(NIL);
+      return;
+    }
+    out.write(('$' + Integer.toString(value.length) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+    out.write(value);
+    out.write(CRLF);
+  }
+
+  private static void writeInteger(OutputStream out, long value) throws IOException {
+    out.write((':' + Long.toString(value) + "\r\n").getBytes(StandardCharsets.US_ASCII));
+  }
+}
@@ -1,18 +1,38 @@
 package com.pores.framework.cache;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.pores.framework.constant.Constants;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.RedisProperties;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
+import redis.clients.jedis.exceptions.JedisConnectionException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
 
 /**
  * Service class for interacting with Redis cache. This class provides methods to perform operations
  * such as putting, getting, and deleting data from the Redis cache. Uses a JedisPool for managing
  * Jedis connections to the Redis server.
  *
+ * <p>Every operation is timed and tagged with its key prefix and outcome through {@link
+ * PoresMetrics}, so failures that are swallowed here remain visible as error rates.
+ *
+ * <p>With the {@link RedisEngine#LETTUCE} engine all operations go through one shared, non-blocking
+ * connection, and the {@code *Async} operations return without waiting for Redis, even while the
+ * connection is still being opened or Redis is unreachable. Their futures
+ * complete on the Lettuce I/O threads, so callbacks must not block. With the {@link
+ * RedisEngine#JEDIS} engine the {@code *Async} operations run synchronously and return a completed
+ * future. Like the synchronous operations, they never complete exceptionally.
+ *
  * @author Manas Mohan Swain
  * @version 1.0
  */
@@ -20,15 +40,31 @@ import redis.clients.jedis.JedisPool;
 @Slf4j
 public class CacheService {
 
-  @Autowired private JedisPool jedisPool;
+  private static final long CACHE_TTL = 60;
+
+  @Autowired(required = false)
+  private JedisPool jedisPool;
+
+  @Autowired(required = false)
+  private JedisPoolSupervisor jedisPoolSupervisor;
+
+  @Autowired(required = false)
+  private LettuceConnectionProvider lettuceConnection;
+
+  @Autowired private RedisProperties redisProperties;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private PoresMetrics poresMetrics;
 
   /**
    * Retrieves a Jedis instance from the JedisPool.
    *
    * @return Jedis instance.
+   * @throws IllegalStateException If the Lettuce engine is configured.
    */
   public Jedis getJedis() {
+    if (jedisPool == null) {
+      throw new IllegalStateException("No Jedis pool is configured for the Lettuce engine.");
+    }
     try (Jedis jedis = jedisPool.getResource()) {
       return jedis;
     }
@@ -39,17 +75,32 @@ public class CacheService {
    *
    * @param key The key for the cache entry.
    * @param object The object to be stored in the cache.
+   * @return True if the entry was written, false if the write failed and was logged.
    */
-  public void putCache(String key, Object object) {
+  public boolean putCache(String key, Object object) {
+    Timer.Sample sample = poresMetrics.startSample();
+    String outcome = PoresMetrics.OUTCOME_ERROR;
     try {
-      String data = objectMapper.writeValueAsString(object);
-      try (Jedis jedis = jedisPool.getResource()) {
-        jedis.set(Constants.REDIS_KEY_PREFIX + key, data);
-        long cacheTtl = 60;
-        jedis.expire(Constants.REDIS_KEY_PREFIX + key, cacheTtl);
+      String data = serializeValue(object);
+      if (isLettuce()) {
+        lettuceConnection
+            .awaitConnection()
+            .sync()
+            .setex(Constants.REDIS_KEY_PREFIX + key, CACHE_TTL, data);
+      } else {
+        withJedis(
+            jedis -> {
+              jedis.set(Constants.REDIS_KEY_PREFIX + key, data);
+              return jedis.expire(Constants.REDIS_KEY_PREFIX + key, CACHE_TTL);
+            });
       }
+      outcome = PoresMetrics.OUTCOME_SUCCESS;
+      return true;
     } catch (Exception e) {
       log.error("Error while putting data in Redis cache: {} ", e.getMessage());
+      return false;
+    } finally {
+      poresMetrics.recordCacheOperation(sample, Constants.CACHE_OPERATION_PUT, key, outcome);
     }
   }
 
@@ -60,10 +111,17 @@ public class CacheService {
    * @return The cached data as a String.
    */
   public String getCache(String key) {
+    Timer.Sample sample = poresMetrics.startSample();
+    String outcome = PoresMetrics.OUTCOME_ERROR;
     try {
-      return getJedis().get(Constants.REDIS_KEY_PREFIX + key);
+      String data = isLettuce() ? lettuceGet(key) : jedisGet(key);
+      outcome = data != null ? PoresMetrics.OUTCOME_HIT : PoresMetrics.OUTCOME_MISS;
+      return data;
     } catch (Exception e) {
+      log.error("Error while getting data from Redis cache: {} ", e.getMessage());
       return null;
+    } finally {
+      poresMetrics.recordCacheOperation(sample, Constants.CACHE_OPERATION_GET, key, outcome);
     }
   }
 
@@ -73,10 +131,197 @@ public class CacheService {
    * @param key The key for the cache entry to be deleted.
    */
   public void deleteCache(String key) {
-    try (Jedis jedis = jedisPool.getResource()) {
-      jedis.del(Constants.REDIS_KEY_PREFIX + key);
+    Timer.Sample sample = poresMetrics.startSample();
+    String outcome = PoresMetrics.OUTCOME_ERROR;
+    try {
+      if (isLettuce()) {
+        lettuceConnection.awaitConnection().sync().del(Constants.REDIS_KEY_PREFIX + key);
+      } else {
+        withJedis(jedis -> jedis.del(Constants.REDIS_KEY_PREFIX + key));
+      }
+      outcome = PoresMetrics.OUTCOME_SUCCESS;
     } catch (Exception e) {
       log.error("Error while deleting data from Redis cache: {} ", e.getMessage());
+    } finally {
+      poresMetrics.recordCacheOperation(sample, Constants.CACHE_OPERATION_DELETE, key, outcome);
+    }
+  }
+
+  /**
+   * Puts data into the Redis cache without waiting for Redis to acknowledge the write.
+   *
+   * @param key The key for the cache entry.
+   * @param object The object to be stored in the cache.
+   * @return Future completing once the entry is written, or the write failed.
+   */
+  public CompletableFuture<Void> putCacheAsync(String key, Object object) {
+    if (!isLettuce()) {
+      putCache(key, object);
+      return CompletableFuture.completedFuture(null);
     }
+    Timer.Sample sample = poresMetrics.startSample();
+    try {
+      String data = serializeValue(object);
+      return whenDone(
+              lettuceAsync(
+                  connection ->
+                      connection.async().setex(Constants.REDIS_KEY_PREFIX + key, CACHE_TTL, data)),
+              sample,
+              Constants.CACHE_OPERATION_PUT,
+              key,
+              result -> PoresMetrics.OUTCOME_SUCCESS)
+          .thenApply(result -> null);
+    } catch (Exception e) {
+      return failed(e, sample, Constants.CACHE_OPERATION_PUT, key);
+    }
+  }
+
+  /**
+   * Gets data from the Redis cache without blocking the calling thread.
+   *
+   * @param key The key for the cache entry.
+   * @return Future completing with the cached data, or null if absent or the read failed.
+   */
+  public CompletableFuture<String> getCacheAsync(String key) {
+    if (!isLettuce()) {
+      return CompletableFuture.completedFuture(getCache(key));
+    }
+    Timer.Sample sample = poresMetrics.startSample();
+    try {
+      return whenDone(
+          lettuceAsync(connection -> connection.async().get(Constants.REDIS_KEY_PREFIX + key)),
+          sample,
+          Constants.CACHE_OPERATION_GET,
+          key,
+          data -> data != null ? PoresMetrics.OUTCOME_HIT : PoresMetrics.OUTCOME_MISS);
+    } catch (Exception e) {
+      return failed(e, sample, Constants.CACHE_OPERATION_GET, key);
+    }
+  }
+
+  /**
+   * Deletes data from the Redis cache without waiting for Redis to acknowledge the delete.
+   *
+   * @param key The key for the cache entry to be deleted.
+   * @return Future completing once the entry is deleted, or the delete failed.
+   */
+  public CompletableFuture<Void> deleteCacheAsync(String key) {
+    if (!isLettuce()) {
+      deleteCache(key);
+      return CompletableFuture.completedFuture(null);
+    }
+    Timer.Sample sample = poresMetrics.startSample();
+    try {
+      return whenDone(
+              lettuceAsync(connection -> connection.async().del(Constants.REDIS_KEY_PREFIX + key)),
+              sample,
+              Constants.CACHE_OPERATION_DELETE,
+              key,
+              result -> PoresMetrics.OUTCOME_SUCCESS)
+          .thenApply(result -> null);
+    } catch (Exception e) {
+      return failed(e, sample, Constants.CACHE_OPERATION_DELETE, key);
+    }
+  }
+
+  /**
+   * Serializes a value into the JSON representation stored in the Redis cache.
+   *
+   * @param object The object to be stored in the cache.
+   * @return The JSON representation of the object.
+   * @throws JsonProcessingException If the object cannot be serialized.
+   */
+  String serializeValue(Object object) throws JsonProcessingException {
+    return objectMapper.writeValueAsString(object);
+  }
+
+  private boolean isLettuce() {
+    return redisProperties.getEngine() == RedisEngine.LETTUCE;
+  }
+
+  /**
+   * Sends a command once the shared connection is available, without blocking while it is being
+   * opened.
+   *
+   * @param command Sends the command on the connection.
+   * @return The pending command, failed if the connection cannot be opened.
+   */
+  private <T> CompletionStage<T> lettuceAsync(
+      Function<StatefulRedisConnection<String, String>, CompletionStage<T>> command) {
+    return lettuceConnection.connection().thenCompose(command);
+  }
+
+  private String lettuceGet(String key) {
+    return lettuceConnection.awaitConnection().sync().get(Constants.REDIS_KEY_PREFIX + key);
+  }
+
+  private String jedisGet(String key) {
+    return withJedis(jedis -> jedis.get(Constants.REDIS_KEY_PREFIX + key));
+  }
+
+  /**
+   * Runs a command on a pooled connection. A connection that breaks during the command is
+   * discarded by the pool when it is closed, and the command is retried on a fresh connection up to
+   * the configured number of times. All cache commands are idempotent, so a retry is safe even if
+   * the failed attempt reached Redis.
+   *
+   * @param command The command to run.
+   * @return The result of the command.
+   * @throws JedisConnectionException If the last attempt failed on a broken connection as well.
+   */
+  private <T> T withJedis(Function<Jedis, T> command) {
+    int retries = Math.max(0, redisProperties.getBrokenConnectionRetries());
+    for (int attempt = 0; ; attempt++) {
+      try (Jedis jedis = jedisPool.getResource()) {
+        return command.apply(jedis);
+      } catch (JedisConnectionException e) {
+        if (jedisPoolSupervisor != null) {
+          jedisPoolSupervisor.onBrokenConnection();
+        }
+        if (attempt >= retries) {
+          throw e;
+        }
+        log.debug("Retrying Redis command on a new connection: {}", e.getMessage());
+      }
+    }
+  }
+
+  /**
+   * Records the outcome of an asynchronous command once it completes. Failures are logged and
+   * complete the returned future with null, like the synchronous operations.
+   *
+   * @param command The pending command.
+   * @param sample The sample started before the command was sent.
+   * @param operation The operation name, one of the {@code CACHE_OPERATION_*} constants.
+   * @param key The cache key, without the framework prefix.
+   * @param outcome Maps the command result to the recorded outcome.
+   * @return Future completing with the command result, or null if the command failed.
+   */
+  private <T> CompletableFuture<T> whenDone(
+      CompletionStage<T> command,
+      Timer.Sample sample,
+      String operation,
+      String key,
+      Function<T, String> outcome) {
+    return command
+        .handle(
+            (result, error) -> {
+              if (error != null) {
+                log.error("Error during async Redis cache {}: {} ", operation, error.getMessage());
+                poresMetrics.recordCacheOperation(
+                    sample, operation, key, PoresMetrics.OUTCOME_ERROR);
+                return null;
+              }
+              poresMetrics.recordCacheOperation(sample, operation, key, outcome.apply(result));
+              return result;
+            })
+        .toCompletableFuture();
+  }
+
+  private <T> CompletableFuture<T> failed(
+      Exception e, Timer.Sample sample, String operation, String key) {
+    log.error("Error during async Redis cache {}: {} ", operation, e.getMessage());
+    poresMetrics.recordCacheOperation(sample, operation, key, PoresMetrics.OUTCOME_ERROR);
+    return CompletableFuture.completedFuture(null);
   }
 }
@@ -0,0 +1,132 @@
+package com.pores.framework.cache;
+
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.RedisProperties;
+import io.micrometer.core.instrument.Counter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.annotation.PreDestroy;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Keeps the Jedis pool healthy without validating connections on every borrow and return. Idle
+ * connections are validated in the background by the pool's eviction runs, and additionally right
+ * after a caller hit a broken connection, since a failed connection usually means its idle
+ * siblings (opened to the same, possibly restarted, server) are stale as well.
+ *
+ * <p>In {@link PoolSizingMode#ADAPTIVE} mode the pool is also resized periodically. It grows by
+ * half while callers wait for connections and the mean borrow wait exceeds the target, and shrinks
+ * by a tenth while less than half of it is in use. The minimum idle size follows the smoothed
+ * number of connections in use.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class JedisPoolSupervisor {
+
+  private static final double ACTIVE_SMOOTHING = 0.3;
+
+  private final ManagedJedisPool jedisPool;
+  private final RedisProperties redisProperties;
+  private final ScheduledThreadPoolExecutor scheduler;
+  private final AtomicBoolean validationPending = new AtomicBoolean();
+  private final Counter brokenConnections;
+  private double smoothedActive;
+
+  /**
+   * Constructor for JedisPoolSupervisor class.
+   *
+   * @param jedisPool The pool to supervise.
+   * @param redisProperties The Redis pool configuration.
+   * @param poresMetrics The framework metrics.
+   */
+  public JedisPoolSupervisor(
+      ManagedJedisPool jedisPool, RedisProperties redisProperties, PoresMetrics poresMetrics) {
+    this.jedisPool = jedisPool;
+    this.redisProperties = redisProperties;
+    this.scheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "pores-redis-pool");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.brokenConnections =
+        Counter.builder("pores.redis.connections.broken")
+            .description("Redis commands that failed on a broken or unobtainable connection")
+            .register(poresMetrics.getMeterRegistry());
+    if (redisProperties.getPoolSizing() == PoolSizingMode.ADAPTIVE) {
+      int minIdle = redisProperties.getMinIdle();
+      jedisPool.resize(clamp(minIdle), minIdle);
+      long interval = Math.max(100, redisProperties.getAdaptiveInterval());
+      scheduler.scheduleWithFixedDelay(this::adjustSize, interval, interval, TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Reports a command that failed on a broken connection, and validates the idle connections in
+   * the background. Reports arriving while a validation is pending are coalesced into it.
+   */
+  public void onBrokenConnection() {
+    brokenConnections.increment();
+    if (!validationPending.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      scheduler.execute(
+          () -> {
+            try {
+              jedisPool.validateIdle();
+            } catch (Exception e) {
+              log.warn("Error while validating idle Redis connections: {}", e.getMessage());
+            } finally {
+              validationPending.set(false);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      validationPending.set(false);
+    }
+  }
+
+  /** Resizes the pool to the demand observed since the last adjustment. */
+  private void adjustSize() {
+    int maxTotal = jedisPool.getMaxTotal();
+    int active = jedisPool.getNumActive();
+    smoothedActive += ACTIVE_SMOOTHING * (active - smoothedActive);
+    int newMaxTotal = maxTotal;
+    if (jedisPool.getNumWaiters() > 0
+        && jedisPool.getMeanBorrowWaitTimeMillis()
+            > redisProperties.getAdaptiveTargetBorrowWait()) {
+      newMaxTotal = clamp(maxTotal + Math.max(1, maxTotal / 2));
+    } else if (active * 2 < maxTotal) {
+      int demand = (int) Math.ceil(smoothedActive * 2);
+      int shrunk = maxTotal - Math.max(1, maxTotal / 10);
+      newMaxTotal = clamp(Math.min(maxTotal, Math.max(demand, shrunk)));
+    }
+    int newMinIdle = Math.min(redisProperties.getMaxIdle(), (int) Math.ceil(smoothedActive));
+    if (newMaxTotal != maxTotal || newMinIdle != jedisPool.getMinIdle()) {
+      log.debug(
+          "Resizing Redis pool from {} to {} connections, keeping {} idle",
+          maxTotal,
+          newMaxTotal,
+          newMinIdle);
+      jedisPool.resize(newMaxTotal, newMinIdle);
+    }
+  }
+
+  private int clamp(int maxTotal) {
+    int lower = Math.max(1, redisProperties.getAdaptiveMinTotal());
+    return Math.max(lower, Math.min(Math.max(lower, redisProperties.getMaxTotal()), maxTotal));
+  }
+
+  /** Stops the scheduler used for validation and resizing. */
+  @PreDestroy
+  public void shutdown() {
+    scheduler.shutdownNow();
+  }
+}
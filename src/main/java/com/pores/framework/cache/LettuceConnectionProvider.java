@@ -0,0 +1,110 @@
+package com.pores.framework.cache;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.codec.StringCodec;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Holds the Lettuce connection shared by the cache service. The connection is opened
+ * asynchronously on first use and kept for the life of the application; Lettuce reconnects it on
+ * its own after it has been established once.
+ *
+ * <p>If the connection cannot be established, the failed attempt is remembered and handed out for
+ * {@value #RETRY_INTERVAL_MS} ms before the next attempt is started, so callers fail immediately
+ * instead of each waiting for a connect timeout while Redis is unreachable.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+public class LettuceConnectionProvider {
+
+  static final long RETRY_INTERVAL_MS = 1000;
+
+  private final RedisClient redisClient;
+  private final RedisURI redisUri;
+  private final AtomicReference<Attempt> attempt = new AtomicReference<>();
+
+  /**
+   * Constructor for LettuceConnectionProvider class.
+   *
+   * @param redisClient The Lettuce client.
+   * @param redisUri The Redis server to connect to.
+   */
+  public LettuceConnectionProvider(RedisClient redisClient, RedisURI redisUri) {
+    this.redisClient = redisClient;
+    this.redisUri = redisUri;
+  }
+
+  /**
+   * Returns the shared connection, starting a connection attempt if none has been made yet or the
+   * last one failed more than the retry interval ago. Never blocks.
+   *
+   * @return Future completing with the connection, or exceptionally if it cannot be opened.
+   */
+  public CompletableFuture<StatefulRedisConnection<String, String>> connection() {
+    while (true) {
+      Attempt current = attempt.get();
+      if (current != null && !current.isRetryDue()) {
+        return current.connection;
+      }
+      Attempt next = new Attempt();
+      if (attempt.compareAndSet(current, next)) {
+        redisClient
+            .connectAsync(StringCodec.UTF8, redisUri)
+            .whenComplete(
+                (connection, error) -> {
+                  if (error != null) {
+                    log.warn("Unable to connect to Redis: {}", error.getMessage());
+                    next.failedAt = System.nanoTime();
+                    next.connection.completeExceptionally(error);
+                  } else {
+                    next.connection.complete(connection);
+                  }
+                });
+        return next.connection;
+      }
+    }
+  }
+
+  /**
+   * Returns the shared connection, waiting for a connection attempt in progress.
+   *
+   * @return The connection.
+   * @throws IllegalStateException If the connection cannot be opened.
+   */
+  public StatefulRedisConnection<String, String> awaitConnection() {
+    try {
+      return connection().join();
+    } catch (RuntimeException e) {
+      throw new IllegalStateException("Redis connection unavailable: " + e.getMessage(), e);
+    }
+  }
+
+  /** Closes the connection if it was established. */
+  public void close() {
+    Attempt current = attempt.get();
+    if (current != null) {
+      current.connection.thenAccept(StatefulRedisConnection::close);
+    }
+  }
+
+  /** A connection attempt and, once it failed, the time it failed at. */
+  private static final class Attempt {
+
+    private final CompletableFuture<StatefulRedisConnection<String, String>> connection =
+        new CompletableFuture<>();
+    private volatile long failedAt;
+
+    private boolean isRetryDue() {
+      return connection.isCompletedExceptionally()
+          && System.nanoTime() - failedAt >= TimeUnit.MILLISECONDS.toNanos(RETRY_INTERVAL_MS);
+    }
+  }
+}
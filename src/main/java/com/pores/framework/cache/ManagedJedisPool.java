@@ -0,0 +1,94 @@
+package com.pores.framework.cache;
+
+import org.apache.commons.pool2.impl.GenericObjectPool;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import redis.clients.jedis.Jedis;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * JedisPool whose idle connections can be validated on demand and whose size can be changed at
+ * runtime, used by the {@link JedisPoolSupervisor}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class ManagedJedisPool extends JedisPool {
+
+  private final int configuredMaxIdle;
+
+  /**
+   * Constructor for ManagedJedisPool class, without authentication.
+   *
+   * @param poolConfig The pool configuration.
+   * @param host The Redis host.
+   * @param port The Redis port.
+   */
+  public ManagedJedisPool(GenericObjectPoolConfig<Jedis> poolConfig, String host, int port) {
+    super(poolConfig, host, port);
+    this.configuredMaxIdle = poolConfig.getMaxIdle();
+  }
+
+  /**
+   * Constructor for ManagedJedisPool class, authenticating with a password.
+   *
+   * @param poolConfig The pool configuration.
+   * @param host The Redis host.
+   * @param port The Redis port.
+   * @param timeout The connection and socket timeout in milliseconds, 0 for none.
+   * @param password The Redis password.
+   */
+  public ManagedJedisPool(
+      GenericObjectPoolConfig<Jedis> poolConfig,
+      String host,
+      int port,
+      int timeout,
+      String password) {
+    super(poolConfig, host, port, timeout, password);
+    this.configuredMaxIdle = poolConfig.getMaxIdle();
+  }
+
+  /**
+   * Runs one eviction run right away: idle connections are tested with a PING, and broken or
+   * expired ones are closed. How many are tested follows {@code numTestsPerEvictionRun}.
+   *
+   * @throws Exception If the eviction run fails.
+   */
+  public void validateIdle() throws Exception {
+    pool().evict();
+  }
+
+  /**
+   * Changes the size of the pool. The maximum number of idle connections is lowered along with the
+   * maximum, so after a shrink the connections returned beyond it are closed instead of kept idle.
+   * Missing idle connections are created by the next eviction run.
+   *
+   * @param maxTotal The maximum number of connections.
+   * @param minIdle The minimum number of idle connections to keep.
+   */
+  public void resize(int maxTotal, int minIdle) {
+    GenericObjectPool<Jedis> pool = pool();
+    pool.setMaxTotal(maxTotal);
+    pool.setMaxIdle(Math.min(configuredMaxIdle, maxTotal));
+    pool.setMinIdle(Math.min(minIdle, maxTotal));
+  }
+
+  public int getMaxTotal() {
+    return pool().getMaxTotal();
+  }
+
+  public int getMinIdle() {
+    return pool().getMinIdle();
+  }
+
+  /**
+   * Returns the underlying commons-pool2 pool. Jedis 3 exposes it only through the deprecated
+   * {@code internalPool} field and has no accessor for resizing or evicting, so this is the one
+   * place reading it.
+   *
+   * @return The underlying pool.
+   */
+  @SuppressWarnings("deprecation")
+  private GenericObjectPool<Jedis> pool() {
+    return internalPool;
+  }
+}
@@ -0,0 +1,19 @@
+package com.pores.framework.cache;
+
+/**
+ * How the size of the Jedis pool is determined.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum PoolSizingMode {
+
+  /** Use the configured {@code maxTotal} and {@code minIdle} as they are. */
+  STATIC,
+
+  /**
+   * Grow the pool while callers wait to borrow connections and shrink it while most connections
+   * are idle, between {@code adaptiveMinTotal} and {@code maxTotal}.
+   */
+  ADAPTIVE
+}
@@ -0,0 +1,19 @@
+package com.pores.framework.cache;
+
+/**
+ * The client library the {@link CacheService} talks to Redis with.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum RedisEngine {
+
+  /** Blocking Jedis connections borrowed from a pool, one connection per in-flight command. */
+  JEDIS,
+
+  /**
+   * A single non-blocking Lettuce connection shared by all threads. Commands are written without
+   * waiting for earlier replies, so concurrent callers are pipelined on the one connection.
+   */
+  LETTUCE
+}
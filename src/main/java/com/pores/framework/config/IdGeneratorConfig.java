@@ -0,0 +1,42 @@
+package com.pores.framework.config;
+
+import com.pores.framework.idgenerator.IdGeneratorService;
+import com.pores.framework.properties.IdGeneratorProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuration class for the generator of document and cache key identifiers.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(IdGeneratorProperties.class)
+public class IdGeneratorConfig {
+
+  private final IdGeneratorProperties idGeneratorProperties;
+
+  /**
+   * Constructor for IdGeneratorConfig class.
+   *
+   * @param idGeneratorProperties The properties related to identifier generation.
+   */
+  @Autowired
+  public IdGeneratorConfig(IdGeneratorProperties idGeneratorProperties) {
+    this.idGeneratorProperties = idGeneratorProperties;
+  }
+
+  /**
+   * Creates the shared identifier generator.
+   *
+   * @return IdGeneratorService generating the configured version and encoding.
+   */
+  @Bean
+  public IdGeneratorService idGeneratorService() {
+    return new IdGeneratorService(
+        idGeneratorProperties.getVersion(), idGeneratorProperties.getEncoding());
+  }
+}
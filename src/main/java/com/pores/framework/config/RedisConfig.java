@@ -1,7 +1,19 @@
 package com.pores.framework.config;
 
+import com.pores.framework.cache.JedisPoolSupervisor;
+import com.pores.framework.cache.LettuceConnectionProvider;
+import com.pores.framework.cache.ManagedJedisPool;
+import com.pores.framework.metrics.PoresMetrics;
 import com.pores.framework.properties.RedisProperties;
+import io.lettuce.core.ClientOptions;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.TimeoutOptions;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -21,11 +33,16 @@ import java.time.Duration;
  * the Redis server. It reads properties from the RedisProperties class to customize the behavior of
  * the connection pool.
  *
+ * <p>With {@code pores.framework.redis.engine=LETTUCE} no pool is created. A single Lettuce
+ * connection is opened asynchronously on first use instead and shared by every thread of the
+ * cache service.
+ *
  * @author Manas Mohan Swain
  * @version 1.0
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(RedisProperties.class)
 public class RedisConfig {
 
   private final RedisProperties redisProperties;
@@ -47,24 +64,150 @@ public class RedisConfig {
    * @throws IllegalStateException If Redis password is required but not provided.
    */
   @Bean
-  public JedisPool jedisPool() {
+  @ConditionalOnProperty(
+      prefix = "pores.framework.redis",
+      name = "engine",
+      havingValue = "jedis",
+      matchIfMissing = true)
+  public ManagedJedisPool jedisPool() {
     JedisPoolConfig poolConfig = getJedisPoolConfig();
-    JedisPool jedisPool;
+    ManagedJedisPool jedisPool;
     if (redisProperties.isPasswordRequired()) {
       String password = redisProperties.getPassword();
       if (!StringUtils.hasText(password)) {
         throw new IllegalStateException("Redis password is required but not provided.");
       }
       jedisPool =
-          new JedisPool(
+          new ManagedJedisPool(
               poolConfig, redisProperties.getHost(), redisProperties.getPort(), 0, password);
     } else {
-      jedisPool = new JedisPool(poolConfig, redisProperties.getHost(), redisProperties.getPort());
+      jedisPool =
+          new ManagedJedisPool(poolConfig, redisProperties.getHost(), redisProperties.getPort());
     }
 
     return jedisPool;
   }
 
+  /**
+   * Creates the supervisor validating idle connections after errors and, in adaptive mode,
+   * resizing the pool.
+   *
+   * @param jedisPool The pool used by the cache service.
+   * @param poresMetrics The framework metrics.
+   * @return JedisPoolSupervisor for the pool.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "pores.framework.redis",
+      name = "engine",
+      havingValue = "jedis",
+      matchIfMissing = true)
+  public JedisPoolSupervisor jedisPoolSupervisor(
+      ManagedJedisPool jedisPool, PoresMetrics poresMetrics) {
+    return new JedisPoolSupervisor(jedisPool, redisProperties, poresMetrics);
+  }
+
+  /**
+   * Publishes the state of the JedisPool as gauges: active and idle connections, threads waiting
+   * for a connection, the mean and maximum time spent waiting to borrow one, and the current
+   * maximum size, which changes in adaptive mode.
+   *
+   * @param jedisPool The pool used by the cache service.
+   * @return MeterBinder registering the pool gauges.
+   */
+  @Bean
+  @ConditionalOnProperty(
+      prefix = "pores.framework.redis",
+      name = "engine",
+      havingValue = "jedis",
+      matchIfMissing = true)
+  public MeterBinder jedisPoolMetrics(ManagedJedisPool jedisPool) {
+    return registry -> {
+      Gauge.builder("pores.redis.pool.active", jedisPool, JedisPool::getNumActive)
+          .description("Connections currently borrowed from the Redis pool")
+          .register(registry);
+      Gauge.builder("pores.redis.pool.idle", jedisPool, JedisPool::getNumIdle)
+          .description("Idle connections in the Redis pool")
+          .register(registry);
+      Gauge.builder("pores.redis.pool.max", jedisPool, ManagedJedisPool::getMaxTotal)
+          .description("Maximum number of connections in the Redis pool")
+          .register(registry);
+      Gauge.builder("pores.redis.pool.waiters", jedisPool, JedisPool::getNumWaiters)
+          .description("Threads blocked waiting for a Redis connection")
+          .register(registry);
+      Gauge.builder(
+              "pores.redis.pool.borrow.wait.mean",
+              jedisPool,
+              JedisPool::getMeanBorrowWaitTimeMillis)
+          .description("Mean time spent waiting to borrow a Redis connection")
+          .baseUnit("milliseconds")
+          .register(registry);
+      Gauge.builder(
+              "pores.redis.pool.borrow.wait.max", jedisPool, JedisPool::getMaxBorrowWaitTimeMillis)
+          .description("Maximum time spent waiting to borrow a Redis connection")
+          .baseUnit("milliseconds")
+          .register(registry);
+    };
+  }
+
+  /**
+   * Creates the Lettuce client. Commands fail after the configured command timeout, and are
+   * rejected instead of queued while the connection is down, so callers of the cache service fail
+   * fast rather than piling up behind a reconnect.
+   *
+   * @return RedisClient configured for the Redis server.
+   * @throws IllegalStateException If Redis password is required but not provided.
+   */
+  @Bean(destroyMethod = "shutdown")
+  @ConditionalOnProperty(prefix = "pores.framework.redis", name = "engine", havingValue = "lettuce")
+  public RedisClient lettuceRedisClient() {
+    Duration commandTimeout = Duration.ofMillis(redisProperties.getCommandTimeout());
+    RedisClient redisClient = RedisClient.create(getLettuceRedisUri());
+    redisClient.setOptions(
+        ClientOptions.builder()
+            .autoReconnect(true)
+            .disconnectedBehavior(ClientOptions.DisconnectedBehavior.REJECT_COMMANDS)
+            .timeoutOptions(TimeoutOptions.enabled(commandTimeout))
+            .build());
+    return redisClient;
+  }
+
+  /**
+   * Creates the holder of the Lettuce connection shared by the cache service. The connection is
+   * opened asynchronously on first use, so lazy startup does not touch the network and no caller
+   * blocks on connecting while Redis is unreachable.
+   *
+   * @param lettuceRedisClient The Lettuce client.
+   * @return LettuceConnectionProvider shared by all threads.
+   */
+  @Bean(destroyMethod = "close")
+  @ConditionalOnProperty(prefix = "pores.framework.redis", name = "engine", havingValue = "lettuce")
+  public LettuceConnectionProvider lettuceConnection(RedisClient lettuceRedisClient) {
+    return new LettuceConnectionProvider(lettuceRedisClient, getLettuceRedisUri());
+  }
+
+  /**
+   * Builds the URI of the Redis server for the Lettuce client.
+   *
+   * @return RedisURI with the configured host, port, command timeout and password.
+   * @throws IllegalStateException If Redis password is required but not provided.
+   */
+  private RedisURI getLettuceRedisUri() {
+    RedisURI.Builder uri =
+        RedisURI.builder()
+            .withHost(redisProperties.getHost())
+            .withPort(redisProperties.getPort())
+            .withTimeout(Duration.ofMillis(redisProperties.getCommandTimeout()));
+    if (redisProperties.isPasswordRequired()) {
+      String password = redisProperties.getPassword();
+      if (!StringUtils.hasText(password)) {
+        throw new IllegalStateException("Redis password is required but not provided.");
+      }
+      uri.withPassword(password.toCharArray());
+    }
+    return uri.build();
+  }
+
   /**
    * Creates and configures a JedisPoolConfig based on the provided properties.
    *
@@ -0,0 +1,91 @@
+package com.pores.framework.config;
+
+import com.pores.framework.cache.LettuceConnectionProvider;
+import com.pores.framework.elasticsearch.schema.SchemaFieldRegistry;
+import com.pores.framework.properties.ElasticSearchProperties;
+import com.pores.framework.properties.RedisProperties;
+import com.pores.framework.properties.WarmupProperties;
+import com.pores.framework.warmup.StartupWarmer;
+import com.pores.framework.warmup.WarmupHealthGroupsPostProcessor;
+import com.pores.framework.warmup.WarmupHealthIndicator;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import redis.clients.jedis.JedisPool;
+
+/**
+ * Configuration class for the startup warm-up and the health indicator reporting its progress.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Configuration
+@EnableConfigurationProperties(WarmupProperties.class)
+@SuppressWarnings("deprecation")
+public class WarmupConfig {
+
+  private final WarmupProperties warmupProperties;
+
+  /**
+   * Constructor for WarmupConfig class.
+   *
+   * @param warmupProperties The properties related to the startup warm-up.
+   */
+  @Autowired
+  public WarmupConfig(WarmupProperties warmupProperties) {
+    this.warmupProperties = warmupProperties;
+  }
+
+  /**
+   * Creates the runner warming up connections and caches once the application has started.
+   *
+   * @param redisProperties The Redis pool configuration.
+   * @param elasticSearchProperties The Elasticsearch client configuration.
+   * @param jedisPool The Redis pool to fill, absent with the Lettuce engine.
+   * @param lettuceConnection The shared Lettuce connection, present with the Lettuce engine.
+   * @param elasticsearchClient The Elasticsearch client to open connections with.
+   * @param schemaFieldRegistry The schema cache to preload.
+   * @return StartupWarmer configured from the warm-up properties.
+   */
+  @Bean
+  public StartupWarmer startupWarmer(
+      RedisProperties redisProperties,
+      ElasticSearchProperties elasticSearchProperties,
+      ObjectProvider<JedisPool> jedisPool,
+      ObjectProvider<LettuceConnectionProvider> lettuceConnection,
+      RestHighLevelClient elasticsearchClient,
+      SchemaFieldRegistry schemaFieldRegistry) {
+    return new StartupWarmer(
+        warmupProperties,
+        redisProperties,
+        elasticSearchProperties,
+        jedisPool.getIfAvailable(),
+        lettuceConnection.getIfAvailable(),
+        elasticsearchClient,
+        schemaFieldRegistry);
+  }
+
+  /**
+   * Creates the health indicator reporting the warm-up, registered as {@code poresWarmup}.
+   *
+   * @param startupWarmer The warmer whose task states are reported.
+   * @return WarmupHealthIndicator for the readiness group.
+   */
+  @Bean
+  public WarmupHealthIndicator poresWarmupHealthIndicator(StartupWarmer startupWarmer) {
+    return new WarmupHealthIndicator(startupWarmer);
+  }
+
+  /**
+   * Creates the post-processor keeping the warm-up health indicator out of the overall health.
+   *
+   * @return WarmupHealthGroupsPostProcessor for the health endpoint groups.
+   */
+  @Bean
+  public WarmupHealthGroupsPostProcessor warmupHealthGroupsPostProcessor() {
+    return new WarmupHealthGroupsPostProcessor();
+  }
+}
@@ -10,5 +10,26 @@ public class Constants {
   public static final String INDEX_TYPE = "_doc";
   public static final String REDIS_KEY_PREFIX = "pores_";
 
+  public static final String ES_OPERATION_INDEX = "index";
+  public static final String ES_OPERATION_UPDATE = "update";
+  public static final String ES_OPERATION_DELETE = "delete";
+  public static final String ES_OPERATION_DELETE_BY_CRITERIA = "delete_by_criteria";
+  public static final String ES_OPERATION_SEARCH = "search";
+  public static final String ES_OPERATION_GET_INDEX = "get_index";
+  public static final String ES_OPERATION_CREATE_INDEX = "create_index";
+  public static final String ES_OPERATION_GET_ALIASES = "get_aliases";
+  public static final String ES_OPERATION_UPDATE_ALIASES = "update_aliases";
+  public static final String ES_OPERATION_REINDEX = "reindex";
+  public static final String ES_OPERATION_GET_TASK = "get_task";
+  public static final String ES_OPERATION_ROLLOVER = "rollover";
+  public static final String ES_OPERATION_PREFETCH = "prefetch";
+
+  public static final String INDEX_VERSION_SEPARATOR = "_v";
+  public static final String WRITE_ALIAS_SUFFIX = "_write";
+
+  public static final String CACHE_OPERATION_PUT = "put";
+  public static final String CACHE_OPERATION_GET = "get";
+  public static final String CACHE_OPERATION_DELETE = "delete";
+
   private Constants() {}
 }
@@ -0,0 +1,41 @@
+package com.pores.framework.elasticsearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Progress of a reindex task, as reported by the Elasticsearch task API.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReindexProgress implements Serializable {
+
+  private String taskId;
+  private long total;
+  private long created;
+  private long updated;
+  private long versionConflicts;
+  private long batches;
+  private long throttledMillis;
+  private boolean completed;
+  private List<String> failures;
+
+  /**
+   * Returns the number of source documents processed so far.
+   *
+   * @return The number of created and updated documents and version conflicts.
+   */
+  public long getProcessed() {
+    return created + updated + versionConflicts;
+  }
+}
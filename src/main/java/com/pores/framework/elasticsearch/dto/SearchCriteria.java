@@ -34,6 +34,8 @@ public class SearchCriteria {
 
   private List<String> facets;
 
+  private List<String> routing;
+
   @Getter
   @Setter
   @AllArgsConstructor
@@ -0,0 +1,28 @@
+package com.pores.framework.elasticsearch.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A page of search results bound to a document type.
+ *
+ * @param <T> The type of the documents.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SearchPage<T> implements Serializable {
+
+  private List<T> data;
+  private Map<String, List<FacetDTO>> facets;
+  private long totalCount;
+}
@@ -1,20 +1,34 @@
 package com.pores.framework.elasticsearch.esconfig;
 
 import com.pores.framework.properties.ElasticSearchProperties;
+import com.pores.framework.properties.EsIndexProperties;
+import com.pores.framework.properties.EsPrefetchProperties;
+import com.pores.framework.properties.EsResilienceProperties;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
 import org.apache.http.auth.AuthScope;
 import org.apache.http.auth.UsernamePasswordCredentials;
 import org.apache.http.client.CredentialsProvider;
 import org.apache.http.impl.client.BasicCredentialsProvider;
+import org.apache.http.impl.nio.conn.PoolingNHttpClientConnectionManager;
+import org.apache.http.impl.nio.reactor.DefaultConnectingIOReactor;
+import org.apache.http.impl.nio.reactor.IOReactorConfig;
+import org.apache.http.nio.reactor.IOReactorException;
+import org.apache.http.pool.PoolStats;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.elasticsearch.client.RestHighLevelClient;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.util.StringUtils;
 
+import java.util.function.ToIntFunction;
+
 /**
  * Configuration class for establishing a connection to Elasticsearch using the REST client.
  *
@@ -22,12 +36,21 @@ import org.springframework.util.StringUtils;
  * an Elasticsearch cluster. It uses properties from the ElasticSearchProperties class to determine
  * the connection details such as host, port, and authentication credentials.
  *
+ * <p>The HTTP connection manager is exposed as a bean of its own so that the pool statistics
+ * (leased, available and pending connections) can be published as gauges.
+ *
  * @author Manas Mohan Swain
  * @version 1.0
  */
 @Configuration
 @Slf4j
 @SuppressWarnings("deprecation")
+@EnableConfigurationProperties({
+  ElasticSearchProperties.class,
+  EsResilienceProperties.class,
+  EsIndexProperties.class,
+  EsPrefetchProperties.class
+})
 public class EsConnection {
 
   private final ElasticSearchProperties elasticsearchProperties;
@@ -42,29 +65,93 @@ public class EsConnection {
     this.elasticsearchProperties = elasticsearchProperties;
   }
 
+  /**
+   * Creates the pooling connection manager used by the Elasticsearch REST client.
+   *
+   * @return PoolingNHttpClientConnectionManager sized from the configured pool limits.
+   * @throws IOReactorException If the underlying I/O reactor cannot be created.
+   */
+  @Bean
+  public PoolingNHttpClientConnectionManager elasticsearchConnectionManager()
+      throws IOReactorException {
+    PoolingNHttpClientConnectionManager connectionManager =
+        new PoolingNHttpClientConnectionManager(
+            new DefaultConnectingIOReactor(IOReactorConfig.DEFAULT));
+    connectionManager.setMaxTotal(elasticsearchProperties.getMaxConnTotal());
+    connectionManager.setDefaultMaxPerRoute(elasticsearchProperties.getMaxConnPerRoute());
+    return connectionManager;
+  }
+
   /**
    * Creates and configures a RestHighLevelClient for Elasticsearch connection.
    *
+   * @param connectionManager The connection manager shared with the pool metrics.
    * @return RestHighLevelClient instance configured for Elasticsearch connection.
    */
   @Bean
-  public RestHighLevelClient elasticsearchClient() {
+  public RestHighLevelClient elasticsearchClient(
+      PoolingNHttpClientConnectionManager connectionManager) {
     RestClientBuilder builder =
         RestClient.builder(
             new HttpHost(
                 elasticsearchProperties.getHost(), elasticsearchProperties.getPort(), "http"));
+    final CredentialsProvider credentialsProvider;
     if (StringUtils.hasText(elasticsearchProperties.getUsername())
         && StringUtils.hasText(elasticsearchProperties.getPassword())) {
-      final CredentialsProvider credentialsProvider = new BasicCredentialsProvider();
+      credentialsProvider = new BasicCredentialsProvider();
       credentialsProvider.setCredentials(
           AuthScope.ANY,
           new UsernamePasswordCredentials(
               elasticsearchProperties.getUsername(), elasticsearchProperties.getPassword()));
-
-      builder.setHttpClientConfigCallback(
-          httpClientBuilder ->
-              httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider));
+    } else {
+      credentialsProvider = null;
     }
+    builder.setHttpClientConfigCallback(
+        httpClientBuilder -> {
+          httpClientBuilder.setConnectionManager(connectionManager);
+          if (credentialsProvider != null) {
+            httpClientBuilder.setDefaultCredentialsProvider(credentialsProvider);
+          }
+          return httpClientBuilder;
+        });
     return new RestHighLevelClient(builder);
   }
+
+  /**
+   * Publishes the statistics of the Elasticsearch HTTP connection pool as gauges.
+   *
+   * @param connectionManager The connection manager used by the REST client.
+   * @return MeterBinder registering the connection pool gauges.
+   */
+  @Bean
+  public MeterBinder elasticsearchConnectionPoolMetrics(
+      PoolingNHttpClientConnectionManager connectionManager) {
+    return registry -> {
+      registerPoolGauge(registry, connectionManager, "leased", PoolStats::getLeased);
+      registerPoolGauge(registry, connectionManager, "available", PoolStats::getAvailable);
+      registerPoolGauge(registry, connectionManager, "pending", PoolStats::getPending);
+      registerPoolGauge(registry, connectionManager, "max", PoolStats::getMax);
+    };
+  }
+
+  /**
+   * Registers a gauge reading one statistic of the connection pool totals.
+   *
+   * @param registry The registry to register the gauge with.
+   * @param connectionManager The connection manager to read the statistics from.
+   * @param name The name of the statistic.
+   * @param statistic Function extracting the statistic from the pool totals.
+   */
+  private static void registerPoolGauge(
+      MeterRegistry registry,
+      PoolingNHttpClientConnectionManager connectionManager,
+      String name,
+      ToIntFunction<PoolStats> statistic) {
+    Gauge.builder(
+            "pores.elasticsearch.pool." + name,
+            connectionManager,
+            manager -> statistic.applyAsInt(manager.getTotalStats()))
+        .description("Elasticsearch HTTP connection pool " + name + " connections")
+        .register(registry);
+  }
 }
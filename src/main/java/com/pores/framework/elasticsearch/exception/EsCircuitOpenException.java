@@ -0,0 +1,27 @@
+package com.pores.framework.elasticsearch.exception;
+
+import com.pores.framework.metrics.PoresMetrics;
+
+/**
+ * Thrown when the circuit breaker for an operation is open because too many recent calls failed.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EsCircuitOpenException extends EsRejectedException {
+
+  /**
+   * Constructor for EsCircuitOpenException class.
+   *
+   * @param operation The operation that was rejected.
+   * @param index The name of the Elasticsearch index.
+   */
+  public EsCircuitOpenException(String operation, String index) {
+    super(operation, index, "Circuit breaker for Elasticsearch " + operation + " is open");
+  }
+
+  @Override
+  public String getOutcome() {
+    return PoresMetrics.OUTCOME_CIRCUIT_OPEN;
+  }
+}
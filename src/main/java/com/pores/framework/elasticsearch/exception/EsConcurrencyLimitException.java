@@ -0,0 +1,31 @@
+package com.pores.framework.elasticsearch.exception;
+
+import com.pores.framework.metrics.PoresMetrics;
+
+/**
+ * Thrown when the adaptive concurrency limit for an operation has been reached.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class EsConcurrencyLimitException extends EsRejectedException {
+
+  /**
+   * Constructor for EsConcurrencyLimitException class.
+   *
+   * @param operation The operation that was rejected.
+   * @param index The name of the Elasticsearch index.
+   * @param limit The concurrency limit in effect.
+   */
+  public EsConcurrencyLimitException(String operation, String index, int limit) {
+    super(
+        operation,
+        index,
+        "Concurrency limit of " + limit + " reached for Elasticsearch " + operation);
+  }
+
+  @Override
+  public String getOutcome() {
+    return PoresMetrics.OUTCOME_REJECTED;
+  }
+}
@@ -0,0 +1,41 @@
+package com.pores.framework.elasticsearch.exception;
+
+import com.pores.framework.metrics.PoresMetrics;
+import lombok.Getter;
+
+/**
+ * Thrown when an Elasticsearch operation fails. Carries the operation and index so callers and
+ * logs can tell which call failed without parsing the message.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+public class EsOperationException extends RuntimeException {
+
+  private final String operation;
+  private final String index;
+
+  /**
+   * Constructor for EsOperationException class.
+   *
+   * @param operation The operation that failed.
+   * @param index The name of the Elasticsearch index.
+   * @param message The detail message.
+   * @param cause The underlying failure, may be null.
+   */
+  public EsOperationException(String operation, String index, String message, Throwable cause) {
+    super(message, cause);
+    this.operation = operation;
+    this.index = index;
+  }
+
+  /**
+   * Returns the outcome the failed operation is reported under in the metrics.
+   *
+   * @return The outcome tag value.
+   */
+  public String getOutcome() {
+    return PoresMetrics.OUTCOME_ERROR;
+  }
+}
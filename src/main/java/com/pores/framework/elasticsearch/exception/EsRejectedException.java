@@ -0,0 +1,22 @@
+package com.pores.framework.elasticsearch.exception;
+
+/**
+ * Thrown when an Elasticsearch operation is rejected before it is sent to the cluster, so that the
+ * caller fails fast instead of queueing behind a slow cluster.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public abstract class EsRejectedException extends EsOperationException {
+
+  /**
+   * Constructor for EsRejectedException class.
+   *
+   * @param operation The operation that was rejected.
+   * @param index The name of the Elasticsearch index.
+   * @param message The detail message.
+   */
+  protected EsRejectedException(String operation, String index, String message) {
+    super(operation, index, message, null);
+  }
+}
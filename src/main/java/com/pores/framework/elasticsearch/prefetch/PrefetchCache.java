@@ -0,0 +1,16 @@
+package com.pores.framework.elasticsearch.prefetch;
+
+/**
+ * Where prefetched search pages are kept until they are requested.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum PrefetchCache {
+
+  /** In the memory of this instance, for callers that keep paging through the same instance. */
+  LOCAL,
+
+  /** In Redis through the cache service, so the next page can be served by any instance. */
+  REDIS
+}
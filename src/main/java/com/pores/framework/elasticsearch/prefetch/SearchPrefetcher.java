@@ -0,0 +1,398 @@
+package com.pores.framework.elasticsearch.prefetch;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.pores.framework.cache.CacheService;
+import com.pores.framework.constant.Constants;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.elasticsearch.dto.SearchResult;
+import com.pores.framework.elasticsearch.resilience.EsResilienceExecutor;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.EsPrefetchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+
+import javax.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Prefetches the next page of paginated searches. After a page has been served, the page that
+ * follows it is fetched in the background and cached, locally or in Redis, under the key of the
+ * criteria that will request it. A caller paging in sequence then gets the next page from the
+ * cache instead of waiting for Elasticsearch.
+ *
+ * <p>Prefetches run on a pool of at most {@code maxConcurrent} threads, and are skipped when the
+ * pool is busy, when the same page is already being prefetched, or when the search limiter has no
+ * headroom, so they never compete with regular searches for capacity. Every prefetch is counted
+ * in {@value #PREFETCH} by outcome, and {@value #PREFETCH_WASTE_RATIO} reports the share of stored
+ * pages that were never requested. Pages that could not be fetched or written to Redis count as
+ * errors, not as stored.
+ *
+ * <p>Writes through this instance {@linkplain #invalidate invalidate} the locally cached pages of
+ * the index written to, including prefetches still running. Pages cached in Redis are not
+ * invalidated and may be stale until they expire.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+public class SearchPrefetcher {
+
+  public static final String PREFETCH = "pores.elasticsearch.prefetch";
+  public static final String PREFETCH_WASTE_RATIO = "pores.elasticsearch.prefetch.waste.ratio";
+
+  public static final String OUTCOME_STORED = "stored";
+  public static final String OUTCOME_CONSUMED = "consumed";
+  public static final String OUTCOME_WASTED = "wasted";
+  public static final String OUTCOME_SKIPPED = "skipped";
+
+  private static final String KEY_PREFIX = "prefetch:";
+
+  private final EsPrefetchProperties properties;
+  private final CacheService cacheService;
+  private final ObjectMapper objectMapper;
+  private final PoresMetrics poresMetrics;
+  private final EsResilienceExecutor esResilienceExecutor;
+  private final ObjectWriter keyWriter;
+  private final ThreadPoolExecutor prefetchExecutor;
+  private final Map<String, LocalEntry> localPages = new ConcurrentHashMap<>();
+  private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+  private final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+  private final AtomicLong stored = new AtomicLong();
+  private final AtomicLong consumed = new AtomicLong();
+
+  /**
+   * Constructor for SearchPrefetcher class.
+   *
+   * @param properties The prefetch configuration.
+   * @param cacheService The cache service holding prefetched pages in Redis.
+   * @param objectMapper The mapper used for cache keys and cached pages.
+   * @param poresMetrics The framework metrics.
+   * @param esResilienceExecutor The executor whose search limiter gates prefetches.
+   */
+  @Autowired
+  public SearchPrefetcher(
+      EsPrefetchProperties properties,
+      CacheService cacheService,
+      ObjectMapper objectMapper,
+      PoresMetrics poresMetrics,
+      EsResilienceExecutor esResilienceExecutor) {
+    this.properties = properties;
+    this.cacheService = cacheService;
+    this.objectMapper = objectMapper;
+    this.poresMetrics = poresMetrics;
+    this.esResilienceExecutor = esResilienceExecutor;
+    this.keyWriter = objectMapper.writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+    int threads = Math.max(1, properties.getMaxConcurrent());
+    this.prefetchExecutor =
+        new ThreadPoolExecutor(
+            threads,
+            threads,
+            60,
+            TimeUnit.SECONDS,
+            new SynchronousQueue<>(),
+            runnable -> {
+              Thread thread = new Thread(runnable, "pores-es-prefetch");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.prefetchExecutor.allowCoreThreadTimeOut(true);
+    Gauge.builder(PREFETCH_WASTE_RATIO, this, SearchPrefetcher::getWasteRatio)
+        .description("Share of prefetched search pages that were never requested")
+        .register(poresMetrics.getMeterRegistry());
+  }
+
+  public boolean isEnabled() {
+    return properties.isEnabled();
+  }
+
+  /**
+   * Takes the prefetched page for the given criteria out of the cache. First pages are never
+   * prefetched, so they are not looked up.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param searchCriteria The criteria of the requested page.
+   * @return The prefetched page, or null if it was not prefetched or has expired.
+   */
+  public SearchResult take(String esIndexName, SearchCriteria searchCriteria) {
+    int pageSize = searchCriteria.getPageSize();
+    if (pageSize <= 0 || searchCriteria.getPageNumber() < pageSize) {
+      return null;
+    }
+    String key = key(esIndexName, searchCriteria);
+    if (key == null) {
+      return null;
+    }
+    SearchResult page =
+        properties.getCache() == PrefetchCache.REDIS ? takeFromRedis(key) : takeLocal(key);
+    if (page != null) {
+      consumed.incrementAndGet();
+      count(esIndexName, OUTCOME_CONSUMED);
+    }
+    return page;
+  }
+
+  /**
+   * Prefetches the page following the given one in the background, unless it lies beyond the
+   * total number of hits or the prefetch has to be skipped.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param searchCriteria The criteria of the page that has just been served.
+   * @param totalCount The total number of hits of the search.
+   * @param loader Runs the search for the criteria of the next page.
+   */
+  public void prefetchNext(
+      String esIndexName,
+      SearchCriteria searchCriteria,
+      long totalCount,
+      Function<SearchCriteria, SearchResult> loader) {
+    int pageSize = searchCriteria.getPageSize();
+    int nextPageNumber = searchCriteria.getPageNumber() + pageSize;
+    if (pageSize <= 0 || nextPageNumber >= totalCount) {
+      return;
+    }
+    SearchCriteria nextCriteria = objectMapper.convertValue(searchCriteria, SearchCriteria.class);
+    nextCriteria.setPageNumber(nextPageNumber);
+    String key = key(esIndexName, nextCriteria);
+    LocalEntry cached = key != null ? localPages.get(key) : null;
+    if (key == null || (cached != null && !cached.isExpired()) || !inFlight.add(key)) {
+      return;
+    }
+    if (!esResilienceExecutor.hasHeadroom(Constants.ES_OPERATION_SEARCH)) {
+      inFlight.remove(key);
+      count(esIndexName, OUTCOME_SKIPPED);
+      return;
+    }
+    long generation = generation(esIndexName).get();
+    try {
+      prefetchExecutor.execute(
+          () -> {
+            try {
+              store(esIndexName, key, generation, loader.apply(nextCriteria));
+            } catch (RuntimeException e) {
+              log.debug("Prefetch on index {} failed: {}", esIndexName, e.getMessage());
+              count(esIndexName, PoresMetrics.OUTCOME_ERROR);
+            } finally {
+              inFlight.remove(key);
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      inFlight.remove(key);
+      count(esIndexName, OUTCOME_SKIPPED);
+    }
+  }
+
+  /**
+   * Drops the locally cached pages of an index after a write, and makes prefetches of that index
+   * still running discard their page. Write aliases and versioned indices invalidate the pages of
+   * their read alias, {@code name_write} and {@code name_v2} those of {@code name}.
+   *
+   * @param esIndexName The name of the Elasticsearch index or alias written to.
+   */
+  public void invalidate(String esIndexName) {
+    if (!properties.isEnabled()) {
+      return;
+    }
+    String baseName = baseIndexName(esIndexName);
+    generation(baseName).incrementAndGet();
+    localPages
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (baseName.equals(baseIndexName(entry.getValue().index))) {
+                count(entry.getValue().index, OUTCOME_WASTED);
+                return true;
+              }
+              return false;
+            });
+  }
+
+  /**
+   * Returns the share of stored pages that were never requested, counted since startup.
+   *
+   * @return The waste ratio between 0 and 1.
+   */
+  public double getWasteRatio() {
+    long storedPages = stored.get();
+    if (storedPages == 0) {
+      return 0;
+    }
+    return Math.max(0, 1 - (double) consumed.get() / storedPages);
+  }
+
+  private SearchResult takeLocal(String key) {
+    LocalEntry entry = localPages.remove(key);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.isExpired()) {
+      count(entry.index, OUTCOME_WASTED);
+      return null;
+    }
+    return entry.page;
+  }
+
+  private SearchResult takeFromRedis(String key) {
+    String data = cacheService.getCache(key);
+    if (data == null) {
+      return null;
+    }
+    cacheService.deleteCacheAsync(key);
+    try {
+      return objectMapper.readValue(data, SearchResult.class);
+    } catch (Exception e) {
+      log.error("Error while reading prefetched page from Redis cache: {} ", e.getMessage());
+      return null;
+    }
+  }
+
+  /**
+   * Caches a prefetched page. In Redis, a page whose write failed is counted as an error. Locally,
+   * expired pages are dropped once the cache is full, and the page is discarded if the cache is
+   * still full afterwards, or if the index was written to since the prefetch started.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param key The cache key of the page.
+   * @param generation The write generation of the index when the prefetch started.
+   * @param page The prefetched page.
+   */
+  private void store(String esIndexName, String key, long generation, SearchResult page) {
+    if (properties.getCache() == PrefetchCache.REDIS) {
+      if (!cacheService.putCache(key, page)) {
+        count(esIndexName, PoresMetrics.OUTCOME_ERROR);
+        return;
+      }
+    } else {
+      AtomicLong currentGeneration = generation(esIndexName);
+      if (currentGeneration.get() != generation) {
+        count(esIndexName, OUTCOME_WASTED);
+        return;
+      }
+      if (localPages.size() >= properties.getMaxEntries()) {
+        removeExpired();
+        if (localPages.size() >= properties.getMaxEntries()) {
+          count(esIndexName, OUTCOME_WASTED);
+          return;
+        }
+      }
+      long expiresAt = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getTtlMs());
+      LocalEntry entry = new LocalEntry(esIndexName, page, expiresAt);
+      LocalEntry replaced = localPages.put(key, entry);
+      if (replaced != null) {
+        count(replaced.index, OUTCOME_WASTED);
+      }
+      // An invalidation between the generation check and the put may have missed the entry
+      if (currentGeneration.get() != generation && localPages.remove(key, entry)) {
+        count(esIndexName, OUTCOME_WASTED);
+        return;
+      }
+    }
+    stored.incrementAndGet();
+    count(esIndexName, OUTCOME_STORED);
+  }
+
+  private void removeExpired() {
+    localPages
+        .entrySet()
+        .removeIf(
+            entry -> {
+              if (entry.getValue().isExpired()) {
+                count(entry.getValue().index, OUTCOME_WASTED);
+                return true;
+              }
+              return false;
+            });
+  }
+
+  /**
+   * Builds the cache key of a page from the index and the criteria rendered as JSON with sorted
+   * map entries, so equal criteria map to the same key.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param searchCriteria The criteria of the page.
+   * @return The cache key, or null if the criteria cannot be rendered.
+   */
+  String key(String esIndexName, SearchCriteria searchCriteria) {
+    try {
+      return KEY_PREFIX
+          + esIndexName
+          + ':'
+          + DigestUtils.md5DigestAsHex(keyWriter.writeValueAsBytes(searchCriteria));
+    } catch (Exception e) {
+      log.warn("Unable to build prefetch key for index {}: {}", esIndexName, e.getMessage());
+      return null;
+    }
+  }
+
+  private AtomicLong generation(String esIndexName) {
+    return generations.computeIfAbsent(baseIndexName(esIndexName), name -> new AtomicLong());
+  }
+
+  /**
+   * Strips the write alias suffix or the version suffix from an index name.
+   *
+   * @param esIndexName The name of the Elasticsearch index or alias.
+   * @return The name of the logical index.
+   */
+  private static String baseIndexName(String esIndexName) {
+    String name = String.valueOf(esIndexName);
+    if (name.endsWith(Constants.WRITE_ALIAS_SUFFIX)) {
+      return name.substring(0, name.length() - Constants.WRITE_ALIAS_SUFFIX.length());
+    }
+    int separator = name.lastIndexOf(Constants.INDEX_VERSION_SEPARATOR);
+    if (separator > 0 && separator + Constants.INDEX_VERSION_SEPARATOR.length() < name.length()) {
+      String version = name.substring(separator + Constants.INDEX_VERSION_SEPARATOR.length());
+      if (version.chars().allMatch(Character::isDigit)) {
+        return name.substring(0, separator);
+      }
+    }
+    return name;
+  }
+
+  private void count(String esIndexName, String outcome) {
+    Counter.builder(PREFETCH)
+        .description("Prefetched search pages by outcome")
+        .tag("index", String.valueOf(esIndexName))
+        .tag("outcome", outcome)
+        .register(poresMetrics.getMeterRegistry())
+        .increment();
+  }
+
+  /** Stops the threads running prefetches. */
+  @PreDestroy
+  public void shutdown() {
+    prefetchExecutor.shutdownNow();
+  }
+
+  /** A locally cached page and the index it was prefetched from. */
+  private static final class LocalEntry {
+
+    private final String index;
+    private final SearchResult page;
+    private final long expiresAtNanos;
+
+    private LocalEntry(String index, SearchResult page, long expiresAtNanos) {
+      this.index = index;
+      this.page = page;
+      this.expiresAtNanos = expiresAtNanos;
+    }
+
+    private boolean isExpired() {
+      return System.nanoTime() - expiresAtNanos > 0;
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Concurrency limiter using additive increase, multiplicative decrease (AIMD). The limit grows by
+ * roughly one per window of successful calls while at least half of it is in use, and shrinks by
+ * the backoff ratio whenever a call fails with an overload signal or takes longer than the latency
+ * threshold. Calls above the limit are rejected immediately instead of queueing.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class AdaptiveConcurrencyLimiter {
+
+  private final int minLimit;
+  private final int maxLimit;
+  private final double backoffRatio;
+  private final long latencyThresholdNanos;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private volatile double limit;
+
+  /**
+   * Constructor for AdaptiveConcurrencyLimiter class.
+   *
+   * @param initialLimit The limit to start from.
+   * @param minLimit The lower bound of the limit.
+   * @param maxLimit The upper bound of the limit.
+   * @param backoffRatio The factor the limit is multiplied with on overload, between 0 and 1.
+   * @param latencyThresholdNanos Calls slower than this are treated as an overload signal.
+   */
+  public AdaptiveConcurrencyLimiter(
+      int initialLimit,
+      int minLimit,
+      int maxLimit,
+      double backoffRatio,
+      long latencyThresholdNanos) {
+    this.minLimit = minLimit;
+    this.maxLimit = maxLimit;
+    this.backoffRatio = backoffRatio;
+    this.latencyThresholdNanos = latencyThresholdNanos;
+    this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+  }
+
+  /**
+   * Acquires a permit if the number of calls in flight is below the limit.
+   *
+   * @return True if the call may proceed, in which case exactly one of the completion methods
+   *     must be called once it completes.
+   */
+  public boolean tryAcquire() {
+    while (true) {
+      int current = inFlight.get();
+      if (current >= getLimit()) {
+        return false;
+      }
+      if (inFlight.compareAndSet(current, current + 1)) {
+        return true;
+      }
+    }
+  }
+
+  /**
+   * Releases a permit after a successful call and adapts the limit to its latency.
+   *
+   * @param rttNanos The duration of the call.
+   */
+  public void onSuccess(long rttNanos) {
+    int current = inFlight.getAndDecrement();
+    if (rttNanos > latencyThresholdNanos) {
+      decrease();
+    } else if (current * 2 >= limit) {
+      increase();
+    }
+  }
+
+  /** Releases a permit after a call that failed with an overload signal and backs off. */
+  public void onDropped() {
+    inFlight.decrementAndGet();
+    decrease();
+  }
+
+  /** Releases a permit without adapting the limit. */
+  public void onIgnored() {
+    inFlight.decrementAndGet();
+  }
+
+  /**
+   * Checks if less than half of the limit is in use, so additional speculative calls are cheap.
+   *
+   * @return True if there is spare capacity.
+   */
+  public boolean hasHeadroom() {
+    return inFlight.get() * 2 < getLimit();
+  }
+
+  public int getLimit() {
+    return (int) limit;
+  }
+
+  public int getInFlight() {
+    return inFlight.get();
+  }
+
+  private synchronized void increase() {
+    limit = Math.min(maxLimit, limit + 1.0 / limit);
+  }
+
+  private synchronized void decrease() {
+    limit = Math.max(minLimit, limit * backoffRatio);
+  }
+}
@@ -0,0 +1,148 @@
+package com.pores.framework.elasticsearch.resilience;
+
+/**
+ * Count based circuit breaker. While closed it tracks the outcome of the last calls in a sliding
+ * window and opens once the failure rate reaches the threshold. While open every call is rejected
+ * until the open duration has elapsed, after which a limited number of trial calls are let through
+ * in the half-open state: if they all succeed the breaker closes, the first failure opens it again.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class CircuitBreaker {
+
+  /** States of the circuit breaker, the ordinal is published as a gauge. */
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureRateThreshold;
+  private final int minimumCalls;
+  private final long openDurationNanos;
+  private final int permittedHalfOpenCalls;
+  private final boolean[] window;
+
+  private volatile State state = State.CLOSED;
+  private int windowPosition;
+  private int windowCalls;
+  private int windowFailures;
+  private long openedAt;
+  private int halfOpenInFlight;
+  private int halfOpenSuccesses;
+
+  /**
+   * Constructor for CircuitBreaker class.
+   *
+   * @param failureRateThreshold The failure rate in percent at which the breaker opens.
+   * @param slidingWindowSize The number of recent calls the failure rate is computed over.
+   * @param minimumCalls The number of calls required before the failure rate is evaluated.
+   * @param openDurationNanos How long the breaker stays open before trial calls are allowed.
+   * @param permittedHalfOpenCalls The number of trial calls in the half-open state.
+   */
+  public CircuitBreaker(
+      int failureRateThreshold,
+      int slidingWindowSize,
+      int minimumCalls,
+      long openDurationNanos,
+      int permittedHalfOpenCalls) {
+    this.failureRateThreshold = failureRateThreshold;
+    this.window = new boolean[slidingWindowSize];
+    this.minimumCalls = Math.min(minimumCalls, slidingWindowSize);
+    this.openDurationNanos = openDurationNanos;
+    this.permittedHalfOpenCalls = permittedHalfOpenCalls;
+  }
+
+  /**
+   * Checks if a call may proceed. Calls while closed take no lock.
+   *
+   * @return True if the call may proceed, in which case exactly one of the completion methods
+   *     must be called once it completes.
+   */
+  public boolean tryAcquirePermission() {
+    if (state == State.CLOSED) {
+      return true;
+    }
+    synchronized (this) {
+      if (state == State.OPEN) {
+        if (System.nanoTime() - openedAt < openDurationNanos) {
+          return false;
+        }
+        state = State.HALF_OPEN;
+        halfOpenInFlight = 0;
+        halfOpenSuccesses = 0;
+      }
+      if (state == State.HALF_OPEN) {
+        if (halfOpenInFlight >= permittedHalfOpenCalls) {
+          return false;
+        }
+        halfOpenInFlight++;
+      }
+      return true;
+    }
+  }
+
+  /** Records a successful call. */
+  public synchronized void onSuccess() {
+    if (state == State.HALF_OPEN) {
+      releaseHalfOpenPermission();
+      if (++halfOpenSuccesses >= permittedHalfOpenCalls) {
+        transitionToClosed();
+      }
+    } else if (state == State.CLOSED) {
+      record(false);
+    }
+  }
+
+  /** Records a failed call. */
+  public synchronized void onFailure() {
+    if (state == State.HALF_OPEN) {
+      transitionToOpen();
+    } else if (state == State.CLOSED) {
+      record(true);
+      if (windowCalls >= minimumCalls
+          && windowFailures * 100 >= failureRateThreshold * windowCalls) {
+        transitionToOpen();
+      }
+    }
+  }
+
+  /** Releases the permission of a call whose outcome says nothing about the cluster health. */
+  public synchronized void onIgnored() {
+    if (state == State.HALF_OPEN) {
+      releaseHalfOpenPermission();
+    }
+  }
+
+  public State getState() {
+    return state;
+  }
+
+  private void record(boolean failure) {
+    if (windowCalls == window.length) {
+      windowFailures -= window[windowPosition] ? 1 : 0;
+    } else {
+      windowCalls++;
+    }
+    window[windowPosition] = failure;
+    windowFailures += failure ? 1 : 0;
+    windowPosition = (windowPosition + 1) % window.length;
+  }
+
+  private void releaseHalfOpenPermission() {
+    halfOpenInFlight = Math.max(0, halfOpenInFlight - 1);
+  }
+
+  private void transitionToOpen() {
+    state = State.OPEN;
+    openedAt = System.nanoTime();
+  }
+
+  private void transitionToClosed() {
+    windowPosition = 0;
+    windowCalls = 0;
+    windowFailures = 0;
+    state = State.CLOSED;
+  }
+}
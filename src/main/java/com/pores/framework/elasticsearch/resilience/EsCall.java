@@ -0,0 +1,16 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import java.io.IOException;
+
+/**
+ * A blocking call to the Elasticsearch client, executed under the resilience policies.
+ *
+ * @param <T> The type of the response.
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface EsCall<T> {
+
+  T call() throws IOException;
+}
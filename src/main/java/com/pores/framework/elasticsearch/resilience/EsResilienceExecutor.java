@@ -0,0 +1,460 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import com.pores.framework.elasticsearch.exception.EsCircuitOpenException;
+import com.pores.framework.elasticsearch.exception.EsConcurrencyLimitException;
+import com.pores.framework.elasticsearch.exception.EsOperationException;
+import com.pores.framework.elasticsearch.exception.EsRejectedException;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.EsResilienceProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.ElasticsearchException;
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.client.Cancellable;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.ResponseException;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Executes Elasticsearch calls under per-operation resilience policies and records their latency
+ * and outcome.
+ *
+ * <p>Each operation type has its own {@link AdaptiveConcurrencyLimiter} and {@link
+ * CircuitBreaker}. A call over the concurrency limit, or made while the breaker is open, fails
+ * immediately with an {@link EsRejectedException} instead of blocking a thread on a slow cluster.
+ * Connection failures, timeouts, 429 and 5xx responses, and unexpected client failures such as a
+ * stopped I/O reactor, count as overload signals and are thrown as {@link EsOperationException};
+ * client errors such as 400 or 404 say nothing about cluster health and are not counted.
+ *
+ * <p>When enabled, searches are hedged: if the first request has not completed after the recent
+ * percentile latency, an identical second request is sent and the first response wins. Hedges are
+ * only sent while the limiter has spare capacity, so hedging never amplifies an overload. The
+ * percentile is tracked per operation and index from the latency of the first request alone, so
+ * a hedge winning does not shorten the recorded latency and pull the hedging delay down with it.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+@Slf4j
+@SuppressWarnings("deprecation")
+public class EsResilienceExecutor {
+
+  private static final int LATENCY_SAMPLES = 1024;
+
+  private final RestHighLevelClient elasticsearchClient;
+  private final EsResilienceProperties properties;
+  private final PoresMetrics poresMetrics;
+  private final Map<String, AdaptiveConcurrencyLimiter> limiters = new ConcurrentHashMap<>();
+  private final Map<String, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
+  private final Map<String, LatencyPercentileTracker> searchLatencies = new ConcurrentHashMap<>();
+  private final ScheduledThreadPoolExecutor hedgeScheduler;
+  private final Counter hedgedRequests;
+
+  /**
+   * Constructor for EsResilienceExecutor class.
+   *
+   * @param elasticsearchClient The client used for hedged searches.
+   * @param properties The resilience configuration.
+   * @param poresMetrics The framework metrics.
+   */
+  @Autowired
+  public EsResilienceExecutor(
+      RestHighLevelClient elasticsearchClient,
+      EsResilienceProperties properties,
+      PoresMetrics poresMetrics) {
+    this.elasticsearchClient = elasticsearchClient;
+    this.properties = properties;
+    this.poresMetrics = poresMetrics;
+    this.hedgeScheduler =
+        new ScheduledThreadPoolExecutor(
+            1,
+            runnable -> {
+              Thread thread = new Thread(runnable, "pores-es-hedge");
+              thread.setDaemon(true);
+              return thread;
+            });
+    this.hedgeScheduler.setRemoveOnCancelPolicy(true);
+    this.hedgedRequests =
+        Counter.builder("pores.elasticsearch.hedged.requests")
+            .description("Hedged search requests sent after the primary request was slow")
+            .register(poresMetrics.getMeterRegistry());
+  }
+
+  /**
+   * Executes a call and reports every completed call as a success.
+   *
+   * @param operation The operation name, one of the {@code ES_OPERATION_*} constants.
+   * @param index The name of the Elasticsearch index.
+   * @param call The call to the Elasticsearch client.
+   * @param <T> The type of the response.
+   * @return The response of the call.
+   * @throws EsOperationException If the call is rejected or fails.
+   */
+  public <T> T execute(String operation, String index, EsCall<T> call) {
+    return execute(operation, index, call, response -> PoresMetrics.OUTCOME_SUCCESS);
+  }
+
+  /**
+   * Executes a call under the limiter and circuit breaker of its operation.
+   *
+   * @param operation The operation name, one of the {@code ES_OPERATION_*} constants.
+   * @param index The name of the Elasticsearch index.
+   * @param call The call to the Elasticsearch client.
+   * @param outcome Function deriving the metrics outcome from a completed call.
+   * @param <T> The type of the response.
+   * @return The response of the call.
+   * @throws EsOperationException If the call is rejected or fails.
+   */
+  public <T> T execute(
+      String operation, String index, EsCall<T> call, Function<T, String> outcome) {
+    Timer.Sample sample = poresMetrics.startSample();
+    String result = PoresMetrics.OUTCOME_ERROR;
+    CircuitBreaker circuitBreaker = circuitBreaker(operation);
+    AdaptiveConcurrencyLimiter limiter = limiter(operation);
+    try {
+      if (circuitBreaker != null && !circuitBreaker.tryAcquirePermission()) {
+        throw new EsCircuitOpenException(operation, index);
+      }
+      if (limiter != null && !limiter.tryAcquire()) {
+        if (circuitBreaker != null) {
+          circuitBreaker.onIgnored();
+        }
+        throw new EsConcurrencyLimitException(operation, index, limiter.getLimit());
+      }
+      long start = System.nanoTime();
+      boolean overload = false;
+      boolean completed = false;
+      try {
+        T response = call.call();
+        completed = true;
+        result = outcome.apply(response);
+        return response;
+      } catch (EsOperationException e) {
+        throw e;
+      } catch (IOException | RuntimeException e) {
+        overload = isOverload(e);
+        completed = !overload;
+        log.error("Elasticsearch {} on index {} failed: {}", operation, index, e.getMessage());
+        throw new EsOperationException(
+            operation, index, "Elasticsearch " + operation + " failed: " + e.getMessage(), e);
+      } finally {
+        long rttNanos = System.nanoTime() - start;
+        if (limiter != null) {
+          if (overload) {
+            limiter.onDropped();
+          } else if (completed) {
+            limiter.onSuccess(rttNanos);
+          } else {
+            limiter.onIgnored();
+          }
+        }
+        if (circuitBreaker != null) {
+          if (overload) {
+            circuitBreaker.onFailure();
+          } else if (completed) {
+            circuitBreaker.onSuccess();
+          } else {
+            circuitBreaker.onIgnored();
+          }
+        }
+      }
+    } catch (EsOperationException e) {
+      result = e.getOutcome();
+      throw e;
+    } finally {
+      poresMetrics.recordEsOperation(sample, operation, index, result);
+    }
+  }
+
+  /**
+   * Executes a search, hedging it when hedging is enabled.
+   *
+   * @param operation The operation name the search is limited and reported under.
+   * @param index The name of the Elasticsearch index.
+   * @param searchRequest The search request, which must not be modified while executing.
+   * @return The first successful search response.
+   * @throws EsOperationException If the search is rejected or fails.
+   */
+  public SearchResponse search(String operation, String index, SearchRequest searchRequest) {
+    EsCall<SearchResponse> call =
+        properties.isHedgingEnabled()
+            ? () -> hedgedSearch(operation, index, searchRequest)
+            : () -> elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+    return execute(operation, index, call);
+  }
+
+  /**
+   * Sends a search and, if it is still running after the hedging delay and there is spare
+   * capacity, an identical second one. The first successful response is returned and the other
+   * request is cancelled. The call fails only once every request sent has failed.
+   *
+   * <p>Only the latency of the first request is recorded. If the hedge wins, the first request is
+   * recorded with the time it had been running when it was cancelled, a lower bound of its latency.
+   *
+   * @param operation The operation name.
+   * @param index The name of the Elasticsearch index.
+   * @param searchRequest The search request.
+   * @return The first successful search response.
+   * @throws IOException If every request sent failed.
+   */
+  private SearchResponse hedgedSearch(String operation, String index, SearchRequest searchRequest)
+      throws IOException {
+    LatencyPercentileTracker latency = searchLatency(operation, index);
+    long percentileNanos = latency.getValueNanos();
+    long start = System.nanoTime();
+    if (percentileNanos < 0) {
+      SearchResponse response = elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+      latency.record(System.nanoTime() - start);
+      return response;
+    }
+    long delayNanos =
+        Math.max(percentileNanos, TimeUnit.MILLISECONDS.toNanos(properties.getHedgingMinDelayMs()));
+    CompletableFuture<SearchResponse> result = new CompletableFuture<>();
+    AtomicInteger outstanding = new AtomicInteger(1);
+    AtomicReference<Cancellable> hedge = new AtomicReference<>();
+    AtomicBoolean primaryRecorded = new AtomicBoolean();
+    Cancellable primary =
+        elasticsearchClient.searchAsync(
+            searchRequest,
+            RequestOptions.DEFAULT,
+            recording(completing(result, outstanding), latency, start, primaryRecorded));
+    AdaptiveConcurrencyLimiter limiter = limiter(operation);
+    ScheduledFuture<?> hedgeTask =
+        hedgeScheduler.schedule(
+            () -> {
+              if (result.isDone() || (limiter != null && !limiter.hasHeadroom())) {
+                return;
+              }
+              outstanding.incrementAndGet();
+              hedgedRequests.increment();
+              hedge.set(
+                  elasticsearchClient.searchAsync(
+                      searchRequest, RequestOptions.DEFAULT, completing(result, outstanding)));
+              if (result.isDone()) {
+                hedge.get().cancel();
+              }
+            },
+            delayNanos,
+            TimeUnit.NANOSECONDS);
+    try {
+      return result.get();
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof IOException) {
+        throw (IOException) cause;
+      }
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      throw new IOException(cause);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IOException("Interrupted while waiting for search response", e);
+    } finally {
+      hedgeTask.cancel(false);
+      if (result.isDone()
+          && !result.isCompletedExceptionally()
+          && primaryRecorded.compareAndSet(false, true)) {
+        latency.record(System.nanoTime() - start);
+      }
+      primary.cancel();
+      Cancellable hedgeRequest = hedge.get();
+      if (hedgeRequest != null) {
+        hedgeRequest.cancel();
+      }
+    }
+  }
+
+  /**
+   * Creates a listener recording the latency of a successful response before passing it on. Only
+   * the first of the listener and the caller to claim the recorded flag records a latency.
+   *
+   * @param delegate The listener the response or failure is passed to.
+   * @param latency The tracker the latency is recorded in.
+   * @param start The time the request was sent, from {@link System#nanoTime()}.
+   * @param recorded The flag claimed by whoever records the latency.
+   * @return The listener.
+   */
+  private static ActionListener<SearchResponse> recording(
+      ActionListener<SearchResponse> delegate,
+      LatencyPercentileTracker latency,
+      long start,
+      AtomicBoolean recorded) {
+    return new ActionListener<SearchResponse>() {
+      @Override
+      public void onResponse(SearchResponse searchResponse) {
+        if (recorded.compareAndSet(false, true)) {
+          latency.record(System.nanoTime() - start);
+        }
+        delegate.onResponse(searchResponse);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        recorded.set(true);
+        delegate.onFailure(e);
+      }
+    };
+  }
+
+  /**
+   * Creates a listener completing the shared result with the first response, or with the failure
+   * of the last outstanding request.
+   *
+   * @param result The shared result.
+   * @param outstanding The number of requests that have not completed yet.
+   * @return The listener.
+   */
+  private static ActionListener<SearchResponse> completing(
+      CompletableFuture<SearchResponse> result, AtomicInteger outstanding) {
+    return new ActionListener<SearchResponse>() {
+      @Override
+      public void onResponse(SearchResponse searchResponse) {
+        outstanding.decrementAndGet();
+        result.complete(searchResponse);
+      }
+
+      @Override
+      public void onFailure(Exception e) {
+        if (outstanding.decrementAndGet() == 0) {
+          result.completeExceptionally(e);
+        }
+      }
+    };
+  }
+
+  /**
+   * Checks if a failure signals an overloaded or unreachable cluster.
+   *
+   * @param e The failure.
+   * @return True for connection failures, timeouts, 429 and 5xx responses, and for unexpected
+   *     client failures such as a stopped I/O reactor.
+   */
+  private static boolean isOverload(Exception e) {
+    int status;
+    if (e instanceof ElasticsearchException) {
+      status = ((ElasticsearchException) e).status().getStatus();
+    } else if (e instanceof ResponseException) {
+      status = ((ResponseException) e).getResponse().getStatusLine().getStatusCode();
+    } else {
+      return true;
+    }
+    return status == RestStatus.TOO_MANY_REQUESTS.getStatus() || status >= 500;
+  }
+
+  /**
+   * Returns the latency tracker of the searches of an operation on an index.
+   *
+   * @param operation The operation name.
+   * @param index The name of the Elasticsearch index.
+   * @return The tracker.
+   */
+  LatencyPercentileTracker searchLatency(String operation, String index) {
+    return searchLatencies.computeIfAbsent(
+        operation + ':' + index,
+        key ->
+            new LatencyPercentileTracker(
+                LATENCY_SAMPLES,
+                properties.getHedgingPercentile(),
+                properties.getHedgingMinSamples()));
+  }
+
+  private AdaptiveConcurrencyLimiter limiter(String operation) {
+    if (!properties.isLimiterEnabled()) {
+      return null;
+    }
+    return limiters.computeIfAbsent(
+        operation,
+        name -> {
+          AdaptiveConcurrencyLimiter limiter =
+              new AdaptiveConcurrencyLimiter(
+                  properties.getInitialLimit(),
+                  properties.getMinLimit(),
+                  properties.getMaxLimit(),
+                  properties.getBackoffRatio(),
+                  TimeUnit.MILLISECONDS.toNanos(properties.getLatencyThresholdMs()));
+          MeterRegistry registry = poresMetrics.getMeterRegistry();
+          Gauge.builder(
+                  "pores.elasticsearch.limiter.limit",
+                  limiter,
+                  AdaptiveConcurrencyLimiter::getLimit)
+              .description("Adaptive concurrency limit of an Elasticsearch operation")
+              .tag("operation", name)
+              .register(registry);
+          Gauge.builder(
+                  "pores.elasticsearch.limiter.inflight",
+                  limiter,
+                  AdaptiveConcurrencyLimiter::getInFlight)
+              .description("Elasticsearch calls in flight for an operation")
+              .tag("operation", name)
+              .register(registry);
+          return limiter;
+        });
+  }
+
+  private CircuitBreaker circuitBreaker(String operation) {
+    if (!properties.isCircuitBreakerEnabled()) {
+      return null;
+    }
+    return circuitBreakers.computeIfAbsent(
+        operation,
+        name -> {
+          CircuitBreaker circuitBreaker =
+              new CircuitBreaker(
+                  properties.getFailureRateThreshold(),
+                  properties.getSlidingWindowSize(),
+                  properties.getMinimumCalls(),
+                  TimeUnit.MILLISECONDS.toNanos(properties.getOpenDurationMs()),
+                  properties.getPermittedHalfOpenCalls());
+          Gauge.builder(
+                  "pores.elasticsearch.circuit.state",
+                  circuitBreaker,
+                  breaker -> breaker.getState().ordinal())
+              .description("Circuit breaker state: 0 closed, 1 open, 2 half-open")
+              .tag("operation", name)
+              .register(poresMetrics.getMeterRegistry());
+          return circuitBreaker;
+        });
+  }
+
+  /**
+   * Checks if less than half of the concurrency limit of an operation is in use, so optional calls
+   * such as prefetches can be sent without taking capacity from regular ones.
+   *
+   * @param operation The operation name.
+   * @return True if there is spare capacity or the limiter is disabled.
+   */
+  public boolean hasHeadroom(String operation) {
+    AdaptiveConcurrencyLimiter limiter = limiter(operation);
+    return limiter == null || limiter.hasHeadroom();
+  }
+
+  /** Stops the scheduler used for hedged requests. */
+  @PreDestroy
+  public void shutdown() {
+    hedgeScheduler.shutdownNow();
+  }
+}
@@ -0,0 +1,75 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks a percentile over the most recent latency samples. Samples are written lock-free into a
+ * ring buffer; the percentile is recomputed from a sorted copy at most once per refresh interval,
+ * so reading it on every request stays cheap.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class LatencyPercentileTracker {
+
+  private static final long REFRESH_INTERVAL_NANOS = 1_000_000_000L;
+
+  private final AtomicLongArray samples;
+  private final AtomicLong written = new AtomicLong();
+  private final double percentile;
+  private final int minimumSamples;
+  private volatile long cachedValue = -1;
+  private volatile long refreshedAt = System.nanoTime() - REFRESH_INTERVAL_NANOS;
+
+  /**
+   * Constructor for LatencyPercentileTracker class.
+   *
+   * @param capacity The number of most recent samples kept.
+   * @param percentile The percentile to track, between 0 and 100.
+   * @param minimumSamples The number of samples required before a value is reported.
+   */
+  public LatencyPercentileTracker(int capacity, double percentile, int minimumSamples) {
+    this.samples = new AtomicLongArray(capacity);
+    this.percentile = percentile;
+    this.minimumSamples = Math.min(minimumSamples, capacity);
+  }
+
+  /**
+   * Records a latency sample.
+   *
+   * @param nanos The latency in nanoseconds.
+   */
+  public void record(long nanos) {
+    samples.set((int) (written.getAndIncrement() % samples.length()), nanos);
+  }
+
+  /**
+   * Returns the tracked percentile over the recent samples.
+   *
+   * @return The percentile in nanoseconds, or -1 while there are not enough samples.
+   */
+  public long getValueNanos() {
+    long now = System.nanoTime();
+    if (now - refreshedAt >= REFRESH_INTERVAL_NANOS) {
+      refreshedAt = now;
+      cachedValue = compute();
+    }
+    return cachedValue;
+  }
+
+  private long compute() {
+    int count = (int) Math.min(written.get(), samples.length());
+    if (count < minimumSamples) {
+      return -1;
+    }
+    long[] sorted = new long[count];
+    for (int i = 0; i < count; i++) {
+      sorted[i] = samples.get(i);
+    }
+    Arrays.sort(sorted);
+    int rank = (int) Math.ceil(percentile / 100.0 * count) - 1;
+    return sorted[Math.max(0, Math.min(count - 1, rank))];
+  }
+}
@@ -0,0 +1,20 @@
+package com.pores.framework.elasticsearch.routing;
+
+/**
+ * Derives the routing key of a document written to an index, such as the tenant the document
+ * belongs to. Documents with the same routing key are stored on the same shard.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@FunctionalInterface
+public interface RoutingKeyExtractor {
+
+  /**
+   * Extracts the routing key of a document.
+   *
+   * @param document The document, either a map or a typed object.
+   * @return The routing key, or null to let Elasticsearch route by document identifier.
+   */
+  String extractRoutingKey(Object document);
+}
@@ -0,0 +1,167 @@
+package com.pores.framework.elasticsearch.routing;
+
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.properties.ElasticSearchProperties;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Resolves the custom routing of Elasticsearch requests per index.
+ *
+ * <p>An explicit routing always wins. Otherwise writes use the {@link RoutingKeyExtractor}
+ * registered for the index, and searches use the routing values of their criteria. For indices
+ * configured with a routing field in {@code pores.framework.elasticsearch.routing-fields}, an
+ * extractor reading that field is registered automatically, and searches filtering on that field
+ * are routed by the filter values, so a tenant-scoped search only hits the shard of the tenant.
+ *
+ * <p>Documents written with a routing key must be updated and deleted with the same key, so an
+ * index should either always or never be routed. For indices with a routing field, writes of
+ * documents lacking the field and deletes without a routing key are rejected rather than silently
+ * sent unrouted, and the mapping of such indices should declare {@code "_routing": {"required":
+ * true}} so that Elasticsearch rejects unrouted requests from other clients as well.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class RoutingKeyResolver {
+
+  private final Map<String, RoutingKeyExtractor> extractors = new ConcurrentHashMap<>();
+  private final Map<String, String> routingFields;
+
+  /**
+   * Constructor for RoutingKeyResolver class.
+   *
+   * @param elasticSearchProperties The properties holding the routing field of every index.
+   */
+  @Autowired
+  public RoutingKeyResolver(ElasticSearchProperties elasticSearchProperties) {
+    this.routingFields = elasticSearchProperties.getRoutingFields();
+    routingFields.forEach(
+        (index, field) -> extractors.put(index, document -> requireField(index, document, field)));
+  }
+
+  /**
+   * Registers the routing key extractor of an index, replacing any configured routing field
+   * extractor.
+   *
+   * @param index The name of the Elasticsearch index or alias.
+   * @param extractor The extractor.
+   */
+  public void register(String index, RoutingKeyExtractor extractor) {
+    extractors.put(index, extractor);
+  }
+
+  /**
+   * Resolves the routing of a write.
+   *
+   * @param index The name of the Elasticsearch index or alias.
+   * @param routing The explicit routing, may be null.
+   * @param document The document being written, may be null.
+   * @return The routing, or null if the write is not routed.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  public String resolve(String index, String routing, Object document) {
+    if (routing != null || document == null) {
+      return routing;
+    }
+    RoutingKeyExtractor extractor = extractors.get(index);
+    return extractor != null ? extractor.extractRoutingKey(document) : null;
+  }
+
+  /**
+   * Resolves the routing of a delete, which has no document to derive it from.
+   *
+   * @param index The name of the Elasticsearch index or alias.
+   * @param routing The routing the document was written with, may be null.
+   * @return The routing.
+   * @throws IllegalArgumentException If the routing is null and the index has a routing field.
+   */
+  public String resolveDelete(String index, String routing) {
+    String field = routingFields.get(index);
+    if (routing == null && field != null) {
+      throw new IllegalArgumentException(
+          "Deletes from index " + index + " must be routed by the value of field " + field);
+    }
+    return routing;
+  }
+
+  /**
+   * Resolves the routing values of a search: the routing of the criteria if set, otherwise the
+   * values the criteria filter the routing field of the index by.
+   *
+   * @param index The name of the Elasticsearch index or alias.
+   * @param searchCriteria The search criteria.
+   * @return The routing values, or null if the search goes to all shards.
+   */
+  public String[] resolveSearchRouting(String index, SearchCriteria searchCriteria) {
+    if (searchCriteria == null) {
+      return null;
+    }
+    if (searchCriteria.getRouting() != null && !searchCriteria.getRouting().isEmpty()) {
+      return searchCriteria.getRouting().toArray(new String[0]);
+    }
+    String field = routingFields.get(index);
+    Map<String, Object> filters = searchCriteria.getFilterCriteriaMap();
+    if (field == null || filters == null) {
+      return null;
+    }
+    Object value = filters.get(field);
+    Set<String> routing = new LinkedHashSet<>();
+    if (value instanceof String) {
+      routing.add((String) value);
+    } else if (value instanceof Collection) {
+      for (Object element : (Collection<?>) value) {
+        if (element == null) {
+          return null;
+        }
+        routing.add(element.toString());
+      }
+    }
+    return routing.isEmpty() ? null : routing.toArray(new String[0]);
+  }
+
+  /**
+   * Reads the routing field of a document written to an index configured with that field.
+   *
+   * @param index The name of the Elasticsearch index or alias.
+   * @param document The document.
+   * @param field The name of the routing field.
+   * @return The field value as a string.
+   * @throws IllegalArgumentException If the document has no value for the field.
+   */
+  private static String requireField(String index, Object document, String field) {
+    String value = readField(document, field);
+    if (value == null) {
+      throw new IllegalArgumentException(
+          "Document written to index " + index + " has no value for routing field " + field);
+    }
+    return value;
+  }
+
+  /**
+   * Reads a field of a map document or a bean property of a typed document.
+   *
+   * @param document The document.
+   * @param field The name of the field.
+   * @return The field value as a string, or null if the document has no such value.
+   */
+  private static String readField(Object document, String field) {
+    Object value;
+    if (document instanceof Map) {
+      value = ((Map<?, ?>) document).get(field);
+    } else {
+      BeanWrapper beanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(document);
+      value = beanWrapper.isReadableProperty(field) ? beanWrapper.getPropertyValue(field) : null;
+    }
+    return value != null ? value.toString() : null;
+  }
+}
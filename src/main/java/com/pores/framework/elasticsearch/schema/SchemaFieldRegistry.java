@@ -0,0 +1,72 @@
+package com.pores.framework.elasticsearch.schema;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the top-level fields declared by the JSON schemas documents are filtered against, so
+ * every schema file is read and parsed only once.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class SchemaFieldRegistry {
+
+  private final ObjectMapper objectMapper;
+  private final Map<String, Set<String>> fields = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor for SchemaFieldRegistry class.
+   *
+   * @param objectMapper The mapper used to parse schema files.
+   */
+  @Autowired
+  public SchemaFieldRegistry(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * Returns the top-level fields declared by a JSON schema, reading the schema on first use.
+   *
+   * @param schemaPath The classpath location of the JSON schema file.
+   * @return The declared field names.
+   * @throws IOException If the schema file is missing or cannot be parsed.
+   */
+  public Set<String> getFields(String schemaPath) throws IOException {
+    Set<String> schemaFields = fields.get(schemaPath);
+    if (schemaFields == null) {
+      schemaFields = readFields(schemaPath);
+      fields.putIfAbsent(schemaPath, schemaFields);
+    }
+    return schemaFields;
+  }
+
+  /**
+   * Reads the top-level fields declared by a JSON schema file.
+   *
+   * @param schemaPath The classpath location of the JSON schema file.
+   * @return The declared field names.
+   * @throws IOException If the schema file is missing or cannot be parsed.
+   */
+  private Set<String> readFields(String schemaPath) throws IOException {
+    try (InputStream schemaStream = SchemaFieldRegistry.class.getResourceAsStream(schemaPath)) {
+      if (schemaStream == null) {
+        throw new FileNotFoundException("JSON schema " + schemaPath + " not found");
+      }
+      Map<String, Object> map = objectMapper.readValue(schemaStream, new TypeReference<>() {});
+      return Collections.unmodifiableSet(new HashSet<>(map.keySet()));
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.pores.framework.elasticsearch.service;
+
+import com.pores.framework.elasticsearch.dto.ReindexProgress;
+
+import java.util.function.Consumer;
+
+/**
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public interface EsIndexService {
+
+  String createVersionedIndex(String alias, String indexDefinitionPath);
+
+  ReindexProgress reindex(
+      String sourceIndex, String destinationIndex, Consumer<ReindexProgress> progressListener);
+
+  void switchAliases(String alias, String index);
+
+  String migrate(
+      String alias, String indexDefinitionPath, Consumer<ReindexProgress> progressListener);
+
+  boolean rollover(String alias, String indexDefinitionPath);
+}
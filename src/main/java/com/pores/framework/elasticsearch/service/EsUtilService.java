@@ -1,6 +1,7 @@
 package com.pores.framework.elasticsearch.service;
 
 import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.elasticsearch.dto.SearchPage;
 import com.pores.framework.elasticsearch.dto.SearchResult;
 import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.search.builder.SearchSourceBuilder;
@@ -21,6 +22,20 @@ public interface EsUtilService {
       Map<String, Object> document,
       String requiredJsonFilePath);
 
+  RestStatus addDocument(
+      String esIndexName,
+      String type,
+      String id,
+      Map<String, Object> document,
+      String requiredJsonFilePath,
+      String routing);
+
+  String addDocument(String esIndexName, Map<String, Object> document, String requiredJsonFilePath);
+
+  <T> String index(String esIndexName, String id, T document);
+
+  <T> String index(String esIndexName, String id, T document, String routing);
+
   RestStatus updateDocument(
       String index,
       String indexType,
@@ -28,9 +43,21 @@ public interface EsUtilService {
       Map<String, Object> document,
       String requiredJsonFilePath);
 
+  RestStatus updateDocument(
+      String index,
+      String indexType,
+      String entityId,
+      Map<String, Object> document,
+      String requiredJsonFilePath,
+      String routing);
+
   void deleteDocument(String documentId, String esIndexName);
 
+  void deleteDocument(String documentId, String esIndexName, String routing);
+
   void deleteDocumentsByCriteria(String esIndexName, SearchSourceBuilder sourceBuilder);
 
   SearchResult searchDocuments(String esIndexName, SearchCriteria searchCriteria);
+
+  <T> SearchPage<T> search(String esIndexName, SearchCriteria searchCriteria, Class<T> type);
 }
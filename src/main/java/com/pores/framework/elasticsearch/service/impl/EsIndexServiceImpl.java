@@ -0,0 +1,507 @@
+package com.pores.framework.elasticsearch.service.impl;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pores.framework.constant.Constants;
+import com.pores.framework.elasticsearch.dto.ReindexProgress;
+import com.pores.framework.elasticsearch.exception.EsOperationException;
+import com.pores.framework.elasticsearch.resilience.EsResilienceExecutor;
+import com.pores.framework.elasticsearch.service.EsIndexService;
+import com.pores.framework.properties.EsIndexProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.action.admin.indices.alias.Alias;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest;
+import org.elasticsearch.action.admin.indices.alias.IndicesAliasesRequest.AliasActions;
+import org.elasticsearch.action.admin.indices.alias.get.GetAliasesRequest;
+import org.elasticsearch.action.support.IndicesOptions;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.client.indices.CreateIndexRequest;
+import org.elasticsearch.client.indices.GetIndexRequest;
+import org.elasticsearch.client.indices.rollover.RolloverRequest;
+import org.elasticsearch.client.indices.rollover.RolloverResponse;
+import org.elasticsearch.client.tasks.TaskSubmissionResponse;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.index.reindex.ReindexRequest;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Service implementation for managing versioned Elasticsearch indices behind aliases.
+ *
+ * <p>Every logical index {@code name} is backed by physical indices {@code name_v1}, {@code
+ * name_v2}, ... and addressed through two aliases: the read alias {@code name}, used for searches,
+ * and the write alias {@code name_write}, which has exactly one write index. Callers pass the
+ * aliases to {@link com.pores.framework.elasticsearch.service.EsUtilService} instead of physical
+ * index names, so mappings or shard counts can change without downtime.
+ *
+ * <p>A migration creates the next version, moves the write alias to it, copies the existing
+ * documents with a sliced and throttled {@code _reindex} task, and finally moves the read alias.
+ * Documents are copied with {@code op_type=create}, so documents written to the new index while
+ * the copy runs are not overwritten with older versions. Deletes are not covered: a document
+ * deleted through the write alias while the copy runs is only removed from the new index, and is
+ * copied back from the old one if the task has not reached it yet. Callers that delete during a
+ * migration have to repeat those deletes once it completes.
+ *
+ * <p>Indices that keep growing can instead be rolled over by size or age, which keeps shards in
+ * the size range where queries stay fast. Rollover is meant for append-only data: after a
+ * rollover the write alias points to an empty index, so updating or re-indexing an existing
+ * document through it creates a second copy, and both copies are visible through the read alias.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Service
+@Slf4j
+@SuppressWarnings("deprecation")
+public class EsIndexServiceImpl implements EsIndexService {
+
+  @Autowired private RestHighLevelClient elasticsearchClient;
+  @Autowired private ObjectMapper objectMapper;
+  @Autowired private EsResilienceExecutor esResilienceExecutor;
+  @Autowired private EsIndexProperties esIndexProperties;
+
+  /**
+   * Creates the next version of a versioned index. If the alias does not exist yet, the read and
+   * write aliases are attached to the new index; otherwise the aliases are left untouched.
+   *
+   * @param alias The read alias of the logical index.
+   * @param indexDefinitionPath The classpath location of a JSON file with the settings and
+   *     mappings of the index, or null for the cluster defaults.
+   * @return The name of the created index.
+   * @throws EsOperationException If the index definition cannot be read or the request fails.
+   */
+  @Override
+  public String createVersionedIndex(String alias, String indexDefinitionPath) {
+    return createVersionedIndex(alias, indexDefinitionPath, getAliasHolders(alias).isEmpty());
+  }
+
+  /**
+   * Copies all documents from one index or alias into another with a background {@code _reindex}
+   * task, and waits for it to complete. The task is split into the configured number of slices and
+   * throttled to the configured request rate. Progress is polled at the configured interval.
+   *
+   * @param sourceIndex The index or alias to copy from.
+   * @param destinationIndex The index to copy into.
+   * @param progressListener Receives every progress report, may be null.
+   * @return The final progress of the task.
+   * @throws EsOperationException If the task fails, reports failures, or does not complete within
+   *     the configured timeout.
+   */
+  @Override
+  public ReindexProgress reindex(
+      String sourceIndex, String destinationIndex, Consumer<ReindexProgress> progressListener) {
+    float requestsPerSecond = esIndexProperties.getReindexRequestsPerSecond();
+    ReindexRequest reindexRequest =
+        new ReindexRequest()
+            .setSourceIndices(sourceIndex)
+            .setDestIndex(destinationIndex)
+            .setDestOpType("create")
+            .setSourceBatchSize(esIndexProperties.getReindexBatchSize())
+            .setSlices(esIndexProperties.getReindexSlices())
+            .setRequestsPerSecond(
+                requestsPerSecond > 0 ? requestsPerSecond : Float.POSITIVE_INFINITY)
+            .setAbortOnVersionConflict(false)
+            .setRefresh(true);
+    TaskSubmissionResponse submission =
+        esResilienceExecutor.execute(
+            Constants.ES_OPERATION_REINDEX,
+            destinationIndex,
+            () -> elasticsearchClient.submitReindexTask(reindexRequest, RequestOptions.DEFAULT));
+    String taskId = submission.getTask();
+    log.info("Reindexing {} into {} as task {}", sourceIndex, destinationIndex, taskId);
+
+    long deadline =
+        System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(esIndexProperties.getReindexTimeoutMs());
+    while (true) {
+      ReindexProgress progress = getReindexProgress(taskId, destinationIndex);
+      if (progressListener != null) {
+        progressListener.accept(progress);
+      }
+      if (progress.isCompleted()) {
+        if (!progress.getFailures().isEmpty()) {
+          throw new EsOperationException(
+              Constants.ES_OPERATION_REINDEX,
+              destinationIndex,
+              "Reindex task " + taskId + " failed: " + progress.getFailures(),
+              null);
+        }
+        log.info(
+            "Reindex task {} completed: {} created, {} version conflicts",
+            taskId,
+            progress.getCreated(),
+            progress.getVersionConflicts());
+        return progress;
+      }
+      log.info(
+          "Reindex task {} processed {} of {} documents",
+          taskId,
+          progress.getProcessed(),
+          progress.getTotal());
+      if (System.nanoTime() - deadline > 0) {
+        throw new EsOperationException(
+            Constants.ES_OPERATION_REINDEX,
+            destinationIndex,
+            "Reindex task " + taskId + " did not complete in time and is still running",
+            null);
+      }
+      try {
+        TimeUnit.MILLISECONDS.sleep(esIndexProperties.getReindexProgressIntervalMs());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new EsOperationException(
+            Constants.ES_OPERATION_REINDEX,
+            destinationIndex,
+            "Interrupted while waiting for reindex task " + taskId,
+            e);
+      }
+    }
+  }
+
+  /**
+   * Moves the read and write aliases of a logical index to the given index in a single atomic
+   * request, removing them from every other index.
+   *
+   * @param alias The read alias of the logical index.
+   * @param index The index both aliases should point to.
+   * @throws EsOperationException If the request fails.
+   */
+  @Override
+  public void switchAliases(String alias, String index) {
+    IndicesAliasesRequest request = new IndicesAliasesRequest();
+    addAliasMove(request, alias, index, false);
+    addAliasMove(request, writeAlias(alias), index, true);
+    updateAliases(request, index);
+    log.info("Switched aliases {} and {} to index {}", alias, writeAlias(alias), index);
+  }
+
+  /**
+   * Migrates a logical index to a new version without downtime. The new version is created from
+   * the given definition, writes are redirected to it, the existing documents are reindexed from
+   * the read alias, and finally reads are redirected. If the alias does not exist yet, the new
+   * version is simply created with both aliases attached.
+   *
+   * <p>Documents deleted through the write alias while the reindex runs can be copied back from
+   * the old index, see the class documentation.
+   *
+   * <p>If the reindex fails, the write alias stays on the new index and the read alias on the old
+   * one; the migration can be completed with {@link #reindex} and {@link #switchAliases}.
+   *
+   * @param alias The read alias of the logical index.
+   * @param indexDefinitionPath The classpath location of the JSON settings and mappings of the new
+   *     version, or null for the cluster defaults.
+   * @param progressListener Receives every reindex progress report, may be null.
+   * @return The name of the new index.
+   * @throws EsOperationException If any step of the migration fails.
+   */
+  @Override
+  public String migrate(
+      String alias, String indexDefinitionPath, Consumer<ReindexProgress> progressListener) {
+    if (getAliasHolders(alias).isEmpty()) {
+      return createVersionedIndex(alias, indexDefinitionPath, true);
+    }
+    String index = createVersionedIndex(alias, indexDefinitionPath, false);
+    IndicesAliasesRequest writeSwitch = new IndicesAliasesRequest();
+    addAliasMove(writeSwitch, writeAlias(alias), index, true);
+    updateAliases(writeSwitch, index);
+    log.info("Redirected writes of {} to index {}", alias, index);
+    try {
+      reindex(alias, index, progressListener);
+    } catch (EsOperationException e) {
+      log.error(
+          "Migration of {} to {} failed; writes go to the new index, reads to the old one",
+          alias,
+          index);
+      throw e;
+    }
+    IndicesAliasesRequest readSwitch = new IndicesAliasesRequest();
+    addAliasMove(readSwitch, alias, index, false);
+    updateAliases(readSwitch, index);
+    log.info("Migrated {} to index {}", alias, index);
+    return index;
+  }
+
+  /**
+   * Rolls the write alias of a logical index over to the next version if any configured rollover
+   * condition is met. The new version is created from the given definition and added to the read
+   * alias, so searches keep covering all previous versions. Only suitable for append-only data,
+   * since documents of previous versions can no longer be updated through the write alias.
+   *
+   * @param alias The read alias of the logical index.
+   * @param indexDefinitionPath The classpath location of the JSON settings and mappings of the new
+   *     version, or null for the cluster defaults.
+   * @return True if the index was rolled over.
+   * @throws EsOperationException If the index definition cannot be read or the request fails.
+   */
+  @Override
+  public boolean rollover(String alias, String indexDefinitionPath) {
+    String newIndex = nextVersionedIndexName(alias);
+    RolloverRequest rolloverRequest = new RolloverRequest(writeAlias(alias), newIndex);
+    String maxPrimaryShardSize = esIndexProperties.getRolloverMaxPrimaryShardSize();
+    if (isNotBlank(maxPrimaryShardSize)) {
+      rolloverRequest.addMaxPrimaryShardSizeCondition(
+          ByteSizeValue.parseBytesSizeValue(maxPrimaryShardSize, "rolloverMaxPrimaryShardSize"));
+    }
+    String maxAge = esIndexProperties.getRolloverMaxAge();
+    if (isNotBlank(maxAge)) {
+      rolloverRequest.addMaxIndexAgeCondition(TimeValue.parseTimeValue(maxAge, "rolloverMaxAge"));
+    }
+    if (esIndexProperties.getRolloverMaxDocs() > 0) {
+      rolloverRequest.addMaxIndexDocsCondition(esIndexProperties.getRolloverMaxDocs());
+    }
+    CreateIndexRequest createIndexRequest = rolloverRequest.getCreateIndexRequest();
+    applyIndexDefinition(createIndexRequest, indexDefinitionPath, newIndex);
+    createIndexRequest.alias(new Alias(alias));
+    RolloverResponse response =
+        esResilienceExecutor.execute(
+            Constants.ES_OPERATION_ROLLOVER,
+            alias,
+            () -> elasticsearchClient.indices().rollover(rolloverRequest, RequestOptions.DEFAULT));
+    if (response.isRolledOver()) {
+      log.info(
+          "Rolled over {} from {} to {}", alias, response.getOldIndex(), response.getNewIndex());
+    }
+    return response.isRolledOver();
+  }
+
+  /**
+   * Creates the next version of a versioned index, optionally attaching the read and write aliases.
+   *
+   * @param alias The read alias of the logical index.
+   * @param indexDefinitionPath The classpath location of the JSON settings and mappings, or null.
+   * @param attachAliases Whether to attach the read and write aliases to the new index.
+   * @return The name of the created index.
+   */
+  private String createVersionedIndex(
+      String alias, String indexDefinitionPath, boolean attachAliases) {
+    String index = nextVersionedIndexName(alias);
+    CreateIndexRequest createIndexRequest = new CreateIndexRequest(index);
+    applyIndexDefinition(createIndexRequest, indexDefinitionPath, index);
+    if (attachAliases) {
+      createIndexRequest.alias(new Alias(alias));
+      createIndexRequest.alias(new Alias(writeAlias(alias)).writeIndex(true));
+    }
+    esResilienceExecutor.execute(
+        Constants.ES_OPERATION_CREATE_INDEX,
+        index,
+        () -> elasticsearchClient.indices().create(createIndexRequest, RequestOptions.DEFAULT));
+    log.info("Created index {} for alias {}", index, alias);
+    return index;
+  }
+
+  /**
+   * Determines the name of the next version of a versioned index, one above the highest existing
+   * version, including closed indices.
+   *
+   * @param alias The read alias of the logical index.
+   * @return The name of the next version.
+   */
+  private String nextVersionedIndexName(String alias) {
+    String prefix = alias + Constants.INDEX_VERSION_SEPARATOR;
+    GetIndexRequest getIndexRequest =
+        new GetIndexRequest(prefix + "*")
+            .indicesOptions(IndicesOptions.fromOptions(true, true, true, true));
+    String[] indices =
+        esResilienceExecutor
+            .execute(
+                Constants.ES_OPERATION_GET_INDEX,
+                alias,
+                () -> elasticsearchClient.indices().get(getIndexRequest, RequestOptions.DEFAULT))
+            .getIndices();
+    int version = 0;
+    for (String index : indices) {
+      try {
+        version = Math.max(version, Integer.parseInt(index.substring(prefix.length())));
+      } catch (NumberFormatException e) {
+        log.debug("Ignoring index {} which does not follow the version scheme", index);
+      }
+    }
+    return prefix + (version + 1);
+  }
+
+  /**
+   * Returns the indices an alias currently points to.
+   *
+   * @param alias The alias.
+   * @return The names of the indices, empty if the alias does not exist.
+   */
+  private Set<String> getAliasHolders(String alias) {
+    GetAliasesRequest getAliasesRequest = new GetAliasesRequest(alias);
+    Map<String, ? extends Set<?>> aliases =
+        esResilienceExecutor
+            .execute(
+                Constants.ES_OPERATION_GET_ALIASES,
+                alias,
+                () ->
+                    elasticsearchClient
+                        .indices()
+                        .getAlias(getAliasesRequest, RequestOptions.DEFAULT))
+            .getAliases();
+    Set<String> holders = new HashSet<>();
+    aliases.forEach(
+        (index, metadata) -> {
+          if (!metadata.isEmpty()) {
+            holders.add(index);
+          }
+        });
+    return holders;
+  }
+
+  /**
+   * Adds the actions moving an alias to an index, removing it from every other index.
+   *
+   * @param request The request the actions are added to.
+   * @param alias The alias to move.
+   * @param index The index the alias should point to.
+   * @param writeIndex Whether the index becomes the write index of the alias.
+   */
+  private void addAliasMove(
+      IndicesAliasesRequest request, String alias, String index, boolean writeIndex) {
+    for (String holder : getAliasHolders(alias)) {
+      if (!holder.equals(index)) {
+        request.addAliasAction(AliasActions.remove().index(holder).alias(alias));
+      }
+    }
+    AliasActions add = AliasActions.add().index(index).alias(alias);
+    if (writeIndex) {
+      add.writeIndex(true);
+    }
+    request.addAliasAction(add);
+  }
+
+  private void updateAliases(IndicesAliasesRequest request, String index) {
+    esResilienceExecutor.execute(
+        Constants.ES_OPERATION_UPDATE_ALIASES,
+        index,
+        () -> elasticsearchClient.indices().updateAliases(request, RequestOptions.DEFAULT));
+  }
+
+  /**
+   * Reads the current progress of a reindex task from the task API.
+   *
+   * @param taskId The task identifier, in the form {@code node:id}.
+   * @param destinationIndex The index the task writes to.
+   * @return The progress of the task.
+   */
+  private ReindexProgress getReindexProgress(String taskId, String destinationIndex) {
+    Map<String, Object> task =
+        esResilienceExecutor.execute(
+            Constants.ES_OPERATION_GET_TASK,
+            destinationIndex,
+            () -> {
+              Response response =
+                  elasticsearchClient
+                      .getLowLevelClient()
+                      .performRequest(new Request("GET", "/_tasks/" + taskId));
+              try (InputStream content = response.getEntity().getContent()) {
+                return objectMapper.readValue(content, new TypeReference<>() {});
+              }
+            });
+    Map<String, Object> status = getMap(getMap(task, "task"), "status");
+    return new ReindexProgress(
+        taskId,
+        getLong(status, "total"),
+        getLong(status, "created"),
+        getLong(status, "updated"),
+        getLong(status, "version_conflicts"),
+        getLong(status, "batches"),
+        getLong(status, "throttled_millis"),
+        Boolean.TRUE.equals(task.get("completed")),
+        extractFailures(task));
+  }
+
+  /**
+   * Collects the failures reported for a completed task.
+   *
+   * @param task The task API response.
+   * @return The failure reasons, empty if the task succeeded or is still running.
+   */
+  private List<String> extractFailures(Map<String, Object> task) {
+    List<String> failures = new ArrayList<>();
+    if (task.get("error") != null) {
+      failures.add(reason(task.get("error")));
+    }
+    Object responseFailures = getMap(task, "response").get("failures");
+    if (responseFailures instanceof List) {
+      for (Object failure : (List<?>) responseFailures) {
+        Object cause = failure instanceof Map ? ((Map<?, ?>) failure).get("cause") : failure;
+        failures.add(reason(cause));
+      }
+    }
+    return failures;
+  }
+
+  private static String reason(Object error) {
+    if (error instanceof Map && ((Map<?, ?>) error).get("reason") != null) {
+      return String.valueOf(((Map<?, ?>) error).get("reason"));
+    }
+    return String.valueOf(error);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Map<String, Object> getMap(Map<String, Object> map, String key) {
+    Object value = map.get(key);
+    return value instanceof Map ? (Map<String, Object>) value : Collections.emptyMap();
+  }
+
+  private static long getLong(Map<String, Object> map, String key) {
+    Object value = map.get(key);
+    return value instanceof Number ? ((Number) value).longValue() : 0;
+  }
+
+  /**
+   * Applies the settings and mappings from a JSON file on the classpath to a create index request.
+   *
+   * @param createIndexRequest The request to apply the definition to.
+   * @param indexDefinitionPath The classpath location of the definition, or null to skip.
+   * @param index The name of the index being created.
+   * @throws EsOperationException If the definition cannot be read.
+   */
+  private void applyIndexDefinition(
+      CreateIndexRequest createIndexRequest, String indexDefinitionPath, String index) {
+    if (indexDefinitionPath == null) {
+      return;
+    }
+    try (InputStream definition = getClass().getResourceAsStream(indexDefinitionPath)) {
+      if (definition == null) {
+        throw new EsOperationException(
+            Constants.ES_OPERATION_CREATE_INDEX,
+            index,
+            "Index definition " + indexDefinitionPath + " not found",
+            null);
+      }
+      createIndexRequest.source(
+          new String(definition.readAllBytes(), StandardCharsets.UTF_8), XContentType.JSON);
+    } catch (IOException e) {
+      throw new EsOperationException(
+          Constants.ES_OPERATION_CREATE_INDEX,
+          index,
+          "Unable to read index definition " + indexDefinitionPath,
+          e);
+    }
+  }
+
+  private static String writeAlias(String alias) {
+    return alias + Constants.WRITE_ALIAS_SUFFIX;
+  }
+
+  private static boolean isNotBlank(String value) {
+    return value != null && !value.trim().isEmpty();
+  }
+}
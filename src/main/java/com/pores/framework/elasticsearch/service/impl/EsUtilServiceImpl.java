@@ -1,13 +1,23 @@
 package com.pores.framework.elasticsearch.service.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.networknt.schema.JsonSchemaFactory;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.pores.framework.constant.Constants;
 import com.pores.framework.elasticsearch.dto.FacetDTO;
 import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.elasticsearch.dto.SearchPage;
 import com.pores.framework.elasticsearch.dto.SearchResult;
+import com.pores.framework.elasticsearch.exception.EsOperationException;
+import com.pores.framework.elasticsearch.prefetch.SearchPrefetcher;
+import com.pores.framework.elasticsearch.resilience.EsResilienceExecutor;
+import com.pores.framework.elasticsearch.routing.RoutingKeyResolver;
+import com.pores.framework.elasticsearch.schema.SchemaFieldRegistry;
 import com.pores.framework.elasticsearch.service.EsUtilService;
+import com.pores.framework.idgenerator.IdGeneratorService;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.ElasticSearchProperties;
 import lombok.extern.slf4j.Slf4j;
 import org.elasticsearch.action.DocWriteResponse;
 import org.elasticsearch.action.bulk.BulkRequest;
@@ -21,6 +31,8 @@ import org.elasticsearch.action.search.SearchResponse;
 import org.elasticsearch.action.support.WriteRequest;
 import org.elasticsearch.client.RequestOptions;
 import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.document.DocumentField;
 import org.elasticsearch.index.query.BoolQueryBuilder;
 import org.elasticsearch.index.query.QueryBuilders;
 import org.elasticsearch.index.query.WildcardQueryBuilder;
@@ -37,8 +49,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service implementation for Elasticsearch utility operations. Provides methods for adding,
@@ -49,8 +61,15 @@ import java.util.*;
  * addition and updating. It supports pagination, sorting, and filtering based on provided search
  * criteria, and it can execute bulk deletion of documents based on a search criteria.
  *
+ * <p>Besides the map based methods, typed variants bind documents directly between POJOs and the
+ * JSON bytes exchanged with Elasticsearch, using an {@link ObjectReader} and {@link ObjectWriter}
+ * cached per document type, which avoids converting through intermediate maps.
+ *
  * <p>Uses the Elasticsearch REST High-Level Client for communication with the Elasticsearch
- * cluster.
+ * cluster. Every call goes through the {@link EsResilienceExecutor}, which limits concurrency,
+ * trips a circuit breaker on a failing cluster and times the call per index and outcome. Failures
+ * are thrown as {@link EsOperationException} rather than returned as null, and searches exceeding
+ * the configured threshold are written to the slow query log.
  *
  * @author Manas Mohan Swain
  * @version 1.0
@@ -61,19 +80,34 @@ import java.util.*;
 @SuppressWarnings("deprecation")
 public class EsUtilServiceImpl implements EsUtilService {
 
+  private static final String ROUTING_FIELD = "_routing";
+
   @Autowired private RestHighLevelClient elasticsearchClient;
   @Autowired private ObjectMapper objectMapper;
+  @Autowired private PoresMetrics poresMetrics;
+  @Autowired private ElasticSearchProperties elasticSearchProperties;
+  @Autowired private EsResilienceExecutor esResilienceExecutor;
+  @Autowired private IdGeneratorService idGeneratorService;
+  @Autowired private RoutingKeyResolver routingKeyResolver;
+  @Autowired private SchemaFieldRegistry schemaFieldRegistry;
+  @Autowired private SearchPrefetcher searchPrefetcher;
+
+  private final Map<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final Map<Class<?>, ObjectWriter> writers = new ConcurrentHashMap<>();
 
   /**
    * Adds a document to the specified Elasticsearch index after validating against a JSON schema.
-   * Returns the status of the operation.
+   * Returns the status of the operation. If no identifier is supplied, a time-ordered identifier
+   * is generated. The document is routed by the routing key extractor of the index, if any.
    *
    * @param esIndexName The name of the Elasticsearch index.
    * @param type The type of the document.
-   * @param id The unique identifier of the document.
+   * @param id The unique identifier of the document, or null to generate one.
    * @param document The document to be added.
    * @param requiredJsonFilePath The path to the required JSON schema file for validation.
    * @return The status of the operation (HTTP status).
+   * @throws EsOperationException If the schema cannot be read or the request is rejected or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
    */
   @Override
   public RestStatus addDocument(
@@ -82,31 +116,114 @@ public class EsUtilServiceImpl implements EsUtilService {
       String id,
       Map<String, Object> document,
       String requiredJsonFilePath) {
+    return addDocument(esIndexName, type, id, document, requiredJsonFilePath, null);
+  }
+
+  /**
+   * Adds a document to the specified Elasticsearch index with a custom routing, after validating
+   * against a JSON schema. Returns the status of the operation. If no identifier is supplied, a
+   * time-ordered identifier is generated.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param type The type of the document.
+   * @param id The unique identifier of the document, or null to generate one.
+   * @param document The document to be added.
+   * @param requiredJsonFilePath The path to the required JSON schema file for validation.
+   * @param routing The routing key, or null to use the routing key extractor of the index.
+   * @return The status of the operation (HTTP status).
+   * @throws EsOperationException If the schema cannot be read or the request is rejected or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  @Override
+  public RestStatus addDocument(
+      String esIndexName,
+      String type,
+      String id,
+      Map<String, Object> document,
+      String requiredJsonFilePath,
+      String routing) {
+    return indexDocument(esIndexName, type, id, document, requiredJsonFilePath, routing).status();
+  }
+
+  /**
+   * Adds a document to the specified Elasticsearch index under a generated time-ordered
+   * identifier, after validating against a JSON schema. The document is routed by the routing key
+   * extractor of the index, if any.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param document The document to be added.
+   * @param requiredJsonFilePath The path to the required JSON schema file for validation.
+   * @return The generated identifier of the document.
+   * @throws EsOperationException If the schema cannot be read or the request is rejected or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  @Override
+  public String addDocument(
+      String esIndexName, Map<String, Object> document, String requiredJsonFilePath) {
+    return indexDocument(
+            esIndexName, Constants.INDEX_TYPE, null, document, requiredJsonFilePath, null)
+        .getId();
+  }
+
+  /**
+   * Adds a document to the specified Elasticsearch index, serializing it straight to JSON bytes
+   * with a writer cached per document type. If no identifier is supplied, a time-ordered
+   * identifier is generated. The document is routed by the routing key extractor of the index, if
+   * any.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param id The unique identifier of the document, or null to generate one.
+   * @param document The document to be added.
+   * @param <T> The type of the document.
+   * @return The identifier of the document.
+   * @throws EsOperationException If the document cannot be serialized or the request is rejected
+   *     or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  @Override
+  public <T> String index(String esIndexName, String id, T document) {
+    return index(esIndexName, id, document, null);
+  }
+
+  /**
+   * Adds a document to the specified Elasticsearch index with a custom routing, serializing it
+   * straight to JSON bytes with a writer cached per document type. If no identifier is supplied, a
+   * time-ordered identifier is generated.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param id The unique identifier of the document, or null to generate one.
+   * @param document The document to be added.
+   * @param routing The routing key, or null to use the routing key extractor of the index.
+   * @param <T> The type of the document.
+   * @return The identifier of the document.
+   * @throws EsOperationException If the document cannot be serialized or the request is rejected
+   *     or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  @Override
+  public <T> String index(String esIndexName, String id, T document, String routing) {
+    byte[] source;
     try {
-      JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance();
-      InputStream schemaStream = schemaFactory.getClass().getResourceAsStream(requiredJsonFilePath);
-      Map<String, Object> map = objectMapper.readValue(schemaStream, new TypeReference<>() {});
-      Iterator<Map.Entry<String, Object>> iterator = document.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Map.Entry<String, Object> entry = iterator.next();
-        String key = entry.getKey();
-        if (!map.containsKey(key)) {
-          iterator.remove();
-        }
-      }
-      IndexRequest indexRequest =
-          new IndexRequest(esIndexName, type, id).source(document, XContentType.JSON);
-      IndexResponse response = elasticsearchClient.index(indexRequest, RequestOptions.DEFAULT);
-      return response.status();
-    } catch (Exception e) {
-      log.error("Issue while Indexing to es: {}", e.getMessage());
-      return null;
+      source = getWriter(document.getClass()).writeValueAsBytes(document);
+    } catch (JsonProcessingException e) {
+      throw new EsOperationException(
+          Constants.ES_OPERATION_INDEX,
+          esIndexName,
+          "Unable to serialize document of type " + document.getClass().getName(),
+          e);
     }
+    IndexRequest indexRequest =
+        newIndexRequest(esIndexName, Constants.INDEX_TYPE, id)
+            .routing(routingKeyResolver.resolve(esIndexName, routing, document))
+            .source(source, XContentType.JSON);
+    executeIndex(esIndexName, indexRequest);
+    return indexRequest.id();
   }
 
   /**
    * Updates a document in the specified Elasticsearch index after validating against a JSON schema.
-   * Returns the status of the operation.
+   * Returns the status of the operation. The document is routed by the routing key extractor of
+   * the index, if any.
    *
    * @param index The name of the Elasticsearch index.
    * @param indexType The type of the document.
@@ -114,6 +231,8 @@ public class EsUtilServiceImpl implements EsUtilService {
    * @param updatedDocument The updated document.
    * @param requiredJsonFilePath The path to the required JSON schema file for validation.
    * @return The status of the operation (HTTP status).
+   * @throws EsOperationException If the schema cannot be read or the request is rejected or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
    */
   @Override
   public RestStatus updateDocument(
@@ -122,48 +241,100 @@ public class EsUtilServiceImpl implements EsUtilService {
       String entityId,
       Map<String, Object> updatedDocument,
       String requiredJsonFilePath) {
+    return updateDocument(index, indexType, entityId, updatedDocument, requiredJsonFilePath, null);
+  }
+
+  /**
+   * Updates a document in the specified Elasticsearch index with a custom routing, after
+   * validating against a JSON schema. Returns the status of the operation.
+   *
+   * @param index The name of the Elasticsearch index.
+   * @param indexType The type of the document.
+   * @param entityId The unique identifier of the document to be updated.
+   * @param updatedDocument The updated document.
+   * @param requiredJsonFilePath The path to the required JSON schema file for validation.
+   * @param routing The routing key, or null to use the routing key extractor of the index.
+   * @return The status of the operation (HTTP status).
+   * @throws EsOperationException If the schema cannot be read or the request is rejected or fails.
+   * @throws IllegalArgumentException If the index has a routing field and the document lacks it.
+   */
+  @Override
+  public RestStatus updateDocument(
+      String index,
+      String indexType,
+      String entityId,
+      Map<String, Object> updatedDocument,
+      String requiredJsonFilePath,
+      String routing) {
+    Map<String, Object> source =
+        filterSchemaFields(
+            Constants.ES_OPERATION_UPDATE, index, updatedDocument, requiredJsonFilePath);
+    IndexRequest indexRequest =
+        new IndexRequest(index)
+            .id(entityId)
+            .routing(routingKeyResolver.resolve(index, routing, updatedDocument))
+            .source(source)
+            .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
     try {
-      JsonSchemaFactory schemaFactory = JsonSchemaFactory.getInstance();
-      InputStream schemaStream = schemaFactory.getClass().getResourceAsStream(requiredJsonFilePath);
-      Map<String, Object> map = objectMapper.readValue(schemaStream, new TypeReference<>() {});
-      Iterator<Map.Entry<String, Object>> iterator = updatedDocument.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Map.Entry<String, Object> entry = iterator.next();
-        String key = entry.getKey();
-        if (!map.containsKey(key)) {
-          iterator.remove();
-        }
-      }
-      IndexRequest indexRequest =
-          new IndexRequest(index)
-              .id(entityId)
-              .source(updatedDocument)
-              .setRefreshPolicy(WriteRequest.RefreshPolicy.IMMEDIATE);
-      IndexResponse response = elasticsearchClient.index(indexRequest, RequestOptions.DEFAULT);
-      return response.status();
-    } catch (IOException e) {
-      return null;
+      return esResilienceExecutor
+          .execute(
+              Constants.ES_OPERATION_UPDATE,
+              index,
+              () -> elasticsearchClient.index(indexRequest, RequestOptions.DEFAULT))
+          .status();
+    } finally {
+      searchPrefetcher.invalidate(index);
     }
   }
 
   /**
-   * Deletes a document from the specified Elasticsearch index.
+   * Deletes a document from the specified Elasticsearch index. A missing document is logged and
+   * reported with the not found outcome. Indices with a routing field must use the routed variant.
    *
    * @param documentId The unique identifier of the document to be deleted.
    * @param esIndexName The name of the Elasticsearch index.
+   * @throws EsOperationException If the request is rejected or fails.
+   * @throws IllegalArgumentException If the routing is null and the index has a routing field.
    */
   @Override
   public void deleteDocument(String documentId, String esIndexName) {
+    deleteDocument(documentId, esIndexName, null);
+  }
+
+  /**
+   * Deletes a document written with a custom routing from the specified Elasticsearch index. A
+   * missing document is logged and reported with the not found outcome.
+   *
+   * @param documentId The unique identifier of the document to be deleted.
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param routing The routing key the document was written with, may be null for indices without
+   *     a routing field.
+   * @throws EsOperationException If the request is rejected or fails.
+   * @throws IllegalArgumentException If the routing is null and the index has a routing field.
+   */
+  @Override
+  public void deleteDocument(String documentId, String esIndexName, String routing) {
+    DeleteRequest request =
+        new DeleteRequest(esIndexName, Constants.INDEX_TYPE, documentId)
+            .routing(routingKeyResolver.resolveDelete(esIndexName, routing));
+    DeleteResponse response;
     try {
-      DeleteRequest request = new DeleteRequest(esIndexName, Constants.INDEX_TYPE, documentId);
-      DeleteResponse response = elasticsearchClient.delete(request, RequestOptions.DEFAULT);
-      if (response.getResult() == DocWriteResponse.Result.DELETED) {
-        log.info("Document deleted successfully from elasticsearch.");
-      } else {
-        log.error("Document not found or failed to delete from elasticsearch.");
-      }
-    } catch (Exception e) {
-      log.error("Error occurred during deleting document in elasticsearch");
+      response =
+          esResilienceExecutor.execute(
+              Constants.ES_OPERATION_DELETE,
+              esIndexName,
+              () -> elasticsearchClient.delete(request, RequestOptions.DEFAULT),
+              deleteResponse ->
+                  deleteResponse.getResult() == DocWriteResponse.Result.DELETED
+                      ? PoresMetrics.OUTCOME_SUCCESS
+                      : PoresMetrics.OUTCOME_NOT_FOUND);
+    } finally {
+      searchPrefetcher.invalidate(esIndexName);
+    }
+    if (response.getResult() == DocWriteResponse.Result.DELETED) {
+      log.info("Document deleted successfully from elasticsearch.");
+    } else {
+      log.error("Document not found or failed to delete from elasticsearch.");
     }
   }
 
@@ -171,63 +342,268 @@ public class EsUtilServiceImpl implements EsUtilService {
    * Searches for documents in the specified Elasticsearch index based on the provided search
    * criteria. Returns a paginated result along with facet information.
    *
+   * <p>With prefetching enabled, a page prefetched by an earlier search is served from the cache,
+   * and the page following the served one is prefetched in the background.
+   *
    * @param esIndexName The name of the Elasticsearch index.
    * @param searchCriteria The search criteria.
    * @return The search result containing paginated data, facets, and total count.
+   * @throws EsOperationException If the search is rejected or fails.
    */
   @Override
   public SearchResult searchDocuments(String esIndexName, SearchCriteria searchCriteria) {
-    SearchSourceBuilder searchSourceBuilder = buildSearchSourceBuilder(searchCriteria);
-    SearchRequest searchRequest = new SearchRequest(esIndexName);
-    searchRequest.source(searchSourceBuilder);
+    if (!searchPrefetcher.isEnabled() || searchCriteria == null) {
+      return toSearchResult(
+          executePaginatedSearch(Constants.ES_OPERATION_SEARCH, esIndexName, searchCriteria),
+          searchCriteria);
+    }
+    SearchResult searchResult = searchPrefetcher.take(esIndexName, searchCriteria);
+    if (searchResult == null) {
+      searchResult =
+          toSearchResult(
+              executePaginatedSearch(Constants.ES_OPERATION_SEARCH, esIndexName, searchCriteria),
+              searchCriteria);
+    }
+    searchPrefetcher.prefetchNext(
+        esIndexName,
+        searchCriteria,
+        searchResult.getTotalCount(),
+        nextCriteria ->
+            toSearchResult(
+                executePaginatedSearch(
+                    Constants.ES_OPERATION_PREFETCH, esIndexName, nextCriteria),
+                nextCriteria));
+    return searchResult;
+  }
+
+  /**
+   * Converts a search response into a paginated result along with facet information.
+   *
+   * @param paginatedSearchResponse The SearchResponse for the requested page.
+   * @param searchCriteria The search criteria.
+   * @return The search result containing paginated data, facets, and total count.
+   */
+  private SearchResult toSearchResult(
+      SearchResponse paginatedSearchResponse, SearchCriteria searchCriteria) {
+    List<Map<String, Object>> paginatedResult = extractPaginatedResult(paginatedSearchResponse);
+    Map<String, List<FacetDTO>> fieldAggregations =
+        extractFacetData(paginatedSearchResponse, searchCriteria);
+    SearchResult searchResult = new SearchResult();
+    searchResult.setData(objectMapper.valueToTree(paginatedResult));
+    searchResult.setFacets(fieldAggregations);
+    searchResult.setTotalCount(paginatedSearchResponse.getHits().getTotalHits().value);
+    return searchResult;
+  }
+
+  /**
+   * Searches for documents in the specified Elasticsearch index based on the provided search
+   * criteria, binding every hit directly from its source bytes to the given type with a reader
+   * cached per type. Hits without a source are skipped.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param searchCriteria The search criteria.
+   * @param type The type the documents are bound to.
+   * @param <T> The type of the documents.
+   * @return The page containing the bound documents, facets, and total count.
+   * @throws EsOperationException If the search is rejected or fails, or a document cannot be
+   *     bound to the type.
+   */
+  @Override
+  public <T> SearchPage<T> search(
+      String esIndexName, SearchCriteria searchCriteria, Class<T> type) {
+    SearchResponse paginatedSearchResponse =
+        executePaginatedSearch(Constants.ES_OPERATION_SEARCH, esIndexName, searchCriteria);
+    List<T> data;
     try {
-      if (searchSourceBuilder != null) {
-        int pageNumber = searchCriteria.getPageNumber();
-        int pageSize = searchCriteria.getPageSize();
-        searchSourceBuilder.from(pageNumber);
-        if (pageSize != 0) {
-          searchSourceBuilder.size(pageSize);
-        }
-      }
-      SearchResponse paginatedSearchResponse =
-          elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
-      List<Map<String, Object>> paginatedResult = extractPaginatedResult(paginatedSearchResponse);
-      Map<String, List<FacetDTO>> fieldAggregations =
-          extractFacetData(paginatedSearchResponse, searchCriteria);
-      SearchResult searchResult = new SearchResult();
-      searchResult.setData(objectMapper.valueToTree(paginatedResult));
-      searchResult.setFacets(fieldAggregations);
-      searchResult.setTotalCount(paginatedSearchResponse.getHits().getTotalHits().value);
-      return searchResult;
+      data = extractTypedResult(paginatedSearchResponse, getReader(type));
     } catch (IOException e) {
-      log.error("Error while fetching details from elastic search");
-      return null;
+      throw new EsOperationException(
+          Constants.ES_OPERATION_SEARCH,
+          esIndexName,
+          "Unable to bind search hits to type " + type.getName(),
+          e);
     }
+    return new SearchPage<>(
+        data,
+        extractFacetData(paginatedSearchResponse, searchCriteria),
+        paginatedSearchResponse.getHits().getTotalHits().value);
   }
 
   /**
-   * Deletes documents from the Elasticsearch index based on the provided search criteria.
+   * Deletes documents from the Elasticsearch index based on the provided search criteria. The
+   * search and the bulk deletion are limited and reported as a single operation.
    *
    * @param esIndexName The name of the Elasticsearch index.
    * @param sourceBuilder The search criteria for identifying documents to delete.
+   * @throws EsOperationException If the request is rejected or fails, or if any document could not
+   *     be deleted.
    */
   @Override
   public void deleteDocumentsByCriteria(String esIndexName, SearchSourceBuilder sourceBuilder) {
+    BulkResponse bulkResponse;
     try {
-      SearchHits searchHits = executeSearch(esIndexName, sourceBuilder);
-      if (searchHits.getTotalHits().value > 0) {
-        BulkResponse bulkResponse = deleteMatchingDocuments(esIndexName, searchHits);
-        if (!bulkResponse.hasFailures()) {
-          log.info("Documents matching the criteria deleted successfully from Elasticsearch.");
-        } else {
-          log.error("Some documents failed to delete from Elasticsearch.");
-        }
-      } else {
-        log.info("No documents match the criteria.");
+      bulkResponse =
+          esResilienceExecutor.execute(
+              Constants.ES_OPERATION_DELETE_BY_CRITERIA,
+              esIndexName,
+              () -> {
+                SearchHits searchHits = executeSearch(esIndexName, sourceBuilder);
+                return searchHits.getTotalHits().value > 0
+                    ? deleteMatchingDocuments(searchHits)
+                    : null;
+              },
+              response ->
+                  response == null
+                      ? PoresMetrics.OUTCOME_NOT_FOUND
+                      : PoresMetrics.OUTCOME_SUCCESS);
+    } finally {
+      searchPrefetcher.invalidate(esIndexName);
+    }
+    if (bulkResponse == null) {
+      log.info("No documents match the criteria.");
+    } else if (bulkResponse.hasFailures()) {
+      throw new EsOperationException(
+          Constants.ES_OPERATION_DELETE_BY_CRITERIA,
+          esIndexName,
+          "Some documents failed to delete from Elasticsearch: "
+              + bulkResponse.buildFailureMessage(),
+          null);
+    } else {
+      log.info("Documents matching the criteria deleted successfully from Elasticsearch.");
+    }
+  }
+
+  /**
+   * Indexes a document after validating against a JSON schema. Documents without an identifier
+   * get a generated one and are indexed with {@code op_type=create}, so a generated identifier can
+   * never overwrite an existing document.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param type The type of the document.
+   * @param id The unique identifier of the document, or null to generate one.
+   * @param document The document to be added.
+   * @param requiredJsonFilePath The path to the required JSON schema file for validation.
+   * @param routing The routing key, or null to use the routing key extractor of the index.
+   * @return The response of the index request.
+   */
+  private IndexResponse indexDocument(
+      String esIndexName,
+      String type,
+      String id,
+      Map<String, Object> document,
+      String requiredJsonFilePath,
+      String routing) {
+    Map<String, Object> source =
+        filterSchemaFields(
+            Constants.ES_OPERATION_INDEX, esIndexName, document, requiredJsonFilePath);
+    return executeIndex(
+        esIndexName,
+        newIndexRequest(esIndexName, type, id)
+            .routing(routingKeyResolver.resolve(esIndexName, routing, document))
+            .source(source, XContentType.JSON));
+  }
+
+  /**
+   * Creates an index request for a document. Documents without an identifier get a generated one
+   * and are indexed with {@code op_type=create}, so a generated identifier can never overwrite an
+   * existing document.
+   *
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param type The type of the document.
+   * @param id The unique identifier of the document, or null to generate one.
+   * @return The index request, without a source.
+   */
+  private IndexRequest newIndexRequest(String esIndexName, String type, String id) {
+    boolean generated = !isNotBlank(id);
+    return new IndexRequest(esIndexName, type, generated ? idGeneratorService.nextId() : id)
+        .create(generated);
+  }
+
+  private IndexResponse executeIndex(String esIndexName, IndexRequest indexRequest) {
+    try {
+      return esResilienceExecutor.execute(
+          Constants.ES_OPERATION_INDEX,
+          esIndexName,
+          () -> elasticsearchClient.index(indexRequest, RequestOptions.DEFAULT));
+    } finally {
+      searchPrefetcher.invalidate(esIndexName);
+    }
+  }
+
+  /**
+   * Copies the fields of a document that are declared in the given JSON schema. The caller's
+   * document is left unchanged.
+   *
+   * @param operation The operation the document is written by.
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param document The document.
+   * @param requiredJsonFilePath The path to the JSON schema file.
+   * @return A new map holding only the declared fields.
+   * @throws EsOperationException If the schema cannot be read.
+   */
+  private Map<String, Object> filterSchemaFields(
+      String operation,
+      String esIndexName,
+      Map<String, Object> document,
+      String requiredJsonFilePath) {
+    Set<String> schemaFields;
+    try {
+      schemaFields = schemaFieldRegistry.getFields(requiredJsonFilePath);
+    } catch (IOException e) {
+      throw new EsOperationException(
+          operation, esIndexName, "Unable to read JSON schema " + requiredJsonFilePath, e);
+    }
+    Map<String, Object> filtered = new LinkedHashMap<>();
+    document.forEach(
+        (key, value) -> {
+          if (schemaFields.contains(key)) {
+            filtered.put(key, value);
+          }
+        });
+    return filtered;
+  }
+
+  /**
+   * Executes a paginated search built from the search criteria, writing it to the slow query log
+   * if needed and recording the number of hits. Searches with routing values only hit the shards
+   * those values route to.
+   *
+   * @param operation The operation name the search is limited and reported under.
+   * @param esIndexName The name of the Elasticsearch index.
+   * @param searchCriteria The search criteria.
+   * @return The SearchResponse for the requested page.
+   */
+  private SearchResponse executePaginatedSearch(
+      String operation, String esIndexName, SearchCriteria searchCriteria) {
+    SearchSourceBuilder searchSourceBuilder = buildSearchSourceBuilder(searchCriteria);
+    SearchRequest searchRequest = new SearchRequest(esIndexName);
+    searchRequest.source(searchSourceBuilder);
+    String[] routing = routingKeyResolver.resolveSearchRouting(esIndexName, searchCriteria);
+    if (routing != null) {
+      searchRequest.routing(routing);
+    }
+    if (searchSourceBuilder != null) {
+      int pageNumber = searchCriteria.getPageNumber();
+      int pageSize = searchCriteria.getPageSize();
+      searchSourceBuilder.from(pageNumber);
+      if (pageSize != 0) {
+        searchSourceBuilder.size(pageSize);
       }
-    } catch (Exception e) {
-      log.error("Error occurred during deleting documents by criteria from Elasticsearch.", e);
     }
+    SearchResponse paginatedSearchResponse =
+        esResilienceExecutor.search(operation, esIndexName, searchRequest);
+    logSlowQuery(esIndexName, searchSourceBuilder, paginatedSearchResponse);
+    poresMetrics.recordSearchHits(
+        esIndexName, paginatedSearchResponse.getHits().getHits().length);
+    return paginatedSearchResponse;
+  }
+
+  private ObjectReader getReader(Class<?> type) {
+    return readers.computeIfAbsent(type, objectMapper::readerFor);
+  }
+
+  private ObjectWriter getWriter(Class<?> type) {
+    return writers.computeIfAbsent(type, objectMapper::writerFor);
   }
 
   /**
@@ -237,7 +613,7 @@ public class EsUtilServiceImpl implements EsUtilService {
    * @param searchCriteria The search criteria containing facet information.
    * @return A map associating each facet field with a list of FacetDTO objects.
    */
-  private Map<String, List<FacetDTO>> extractFacetData(
+  Map<String, List<FacetDTO>> extractFacetData(
       SearchResponse searchResponse, SearchCriteria searchCriteria) {
     Map<String, List<FacetDTO>> fieldAggregations = new HashMap<>();
     if (searchCriteria.getFacets() != null) {
@@ -262,7 +638,7 @@ public class EsUtilServiceImpl implements EsUtilService {
    * @param paginatedSearchResponse The SearchResponse containing paginated search results.
    * @return A list of maps representing the extracted paginated results.
    */
-  private List<Map<String, Object>> extractPaginatedResult(SearchResponse paginatedSearchResponse) {
+  List<Map<String, Object>> extractPaginatedResult(SearchResponse paginatedSearchResponse) {
     SearchHit[] hits = paginatedSearchResponse.getHits().getHits();
     List<Map<String, Object>> paginatedResult = new ArrayList<>();
     for (SearchHit hit : hits) {
@@ -271,6 +647,34 @@ public class EsUtilServiceImpl implements EsUtilService {
     return paginatedResult;
   }
 
+  /**
+   * Binds the sources of the hits in the given SearchResponse with the given reader, without
+   * building an intermediate map. Hits without a source are skipped.
+   *
+   * @param paginatedSearchResponse The SearchResponse containing paginated search results.
+   * @param reader The reader for the type the documents are bound to.
+   * @param <T> The type of the documents.
+   * @return The bound documents.
+   * @throws IOException If a source cannot be bound to the type.
+   */
+  <T> List<T> extractTypedResult(SearchResponse paginatedSearchResponse, ObjectReader reader)
+      throws IOException {
+    SearchHit[] hits = paginatedSearchResponse.getHits().getHits();
+    List<T> result = new ArrayList<>(hits.length);
+    for (SearchHit hit : hits) {
+      BytesReference source = hit.getSourceRef();
+      if (source == null) {
+        continue;
+      }
+      if (source.hasArray()) {
+        result.add(reader.readValue(source.array(), source.arrayOffset(), source.length()));
+      } else {
+        result.add(reader.readValue(source.streamInput()));
+      }
+    }
+    return result;
+  }
+
   /**
    * Builds the search query based on the provided search criteria. Returns a SearchSourceBuilder
    * for executing the Elasticsearch search request.
@@ -278,7 +682,7 @@ public class EsUtilServiceImpl implements EsUtilService {
    * @param searchCriteria The search criteria.
    * @return The constructed SearchSourceBuilder.
    */
-  private SearchSourceBuilder buildSearchSourceBuilder(SearchCriteria searchCriteria) {
+  SearchSourceBuilder buildSearchSourceBuilder(SearchCriteria searchCriteria) {
     log.info("Building search query");
     if (searchCriteria == null || searchCriteria.toString().isEmpty()) {
       log.error("Search criteria body is missing");
@@ -336,10 +740,10 @@ public class EsUtilServiceImpl implements EsUtilService {
           (field, value) -> {
             if (value instanceof Boolean) {
               boolQueryBuilder.must(QueryBuilders.termQuery(field, value));
-            } else if (value instanceof ArrayList) {
+            } else if (value instanceof Collection) {
               boolQueryBuilder.must(
                   QueryBuilders.termsQuery(
-                      field + Constants.KEYWORD, ((ArrayList<?>) value).toArray()));
+                      field + Constants.KEYWORD, ((Collection<?>) value).toArray()));
             } else if (value instanceof String) {
               boolQueryBuilder.must(QueryBuilders.termsQuery(field + Constants.KEYWORD, value));
             }
@@ -439,22 +843,44 @@ public class EsUtilServiceImpl implements EsUtilService {
     searchRequest.source(sourceBuilder);
     SearchResponse searchResponse =
         elasticsearchClient.search(searchRequest, RequestOptions.DEFAULT);
+    logSlowQuery(esIndexName, sourceBuilder, searchResponse);
     return searchResponse.getHits();
   }
 
   /**
-   * Deletes documents from Elasticsearch based on the provided SearchHits.
+   * Writes a search to the slow query log when the time reported by Elasticsearch reaches the
+   * configured threshold. The rendered query source is included so the query can be replayed.
    *
    * @param esIndexName The name of the Elasticsearch index.
+   * @param sourceBuilder The SearchSourceBuilder that was executed.
+   * @param searchResponse The SearchResponse returned for the query.
+   */
+  private void logSlowQuery(
+      String esIndexName, SearchSourceBuilder sourceBuilder, SearchResponse searchResponse) {
+    long thresholdMs = elasticSearchProperties.getSlowQueryThresholdMs();
+    long tookMs = searchResponse.getTook().millis();
+    if (thresholdMs >= 0 && tookMs >= thresholdMs) {
+      log.warn("Slow query on index {} took {} ms: {}", esIndexName, tookMs, sourceBuilder);
+    }
+  }
+
+  /**
+   * Deletes documents from Elasticsearch based on the provided SearchHits. Each document is
+   * deleted from the concrete index it was found in, since the searched name may be an alias.
+   *
    * @param searchHits The SearchHits representing documents to be deleted.
    * @return The BulkResponse containing the result of the deletion operation.
    * @throws IOException If an I/O error occurs during the deletion operation.
    */
-  private BulkResponse deleteMatchingDocuments(String esIndexName, SearchHits searchHits)
-      throws IOException {
+  private BulkResponse deleteMatchingDocuments(SearchHits searchHits) throws IOException {
     BulkRequest bulkRequest = new BulkRequest();
     searchHits.forEach(
-        hit -> bulkRequest.add(new DeleteRequest(esIndexName, Constants.INDEX_TYPE, hit.getId())));
+        hit -> {
+          DocumentField routing = hit.field(ROUTING_FIELD);
+          bulkRequest.add(
+              new DeleteRequest(hit.getIndex(), Constants.INDEX_TYPE, hit.getId())
+                  .routing(routing != null ? routing.getValue() : null));
+        });
     return elasticsearchClient.bulk(bulkRequest, RequestOptions.DEFAULT);
   }
 }
@@ -0,0 +1,74 @@
+package com.pores.framework.idgenerator;
+
+import java.util.UUID;
+
+/**
+ * String encodings for generated identifiers. The compact encodings are fixed width and use
+ * alphabets in ASCII order, so identifiers sort lexicographically in the same order as the
+ * underlying 128-bit values and time-ordered identifiers stay time-ordered as strings.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum IdEncoding {
+
+  /** Canonical 36 character UUID form, such as {@code 0190b7e2-8c1a-7c3e-9f1d-4a5b6c7d8e9f}. */
+  CANONICAL {
+    @Override
+    public String encode(UUID uuid) {
+      return uuid.toString();
+    }
+  },
+
+  /** 26 characters of Crockford base32, case-insensitive and free of ambiguous characters. */
+  BASE32 {
+    @Override
+    public String encode(UUID uuid) {
+      long msb = uuid.getMostSignificantBits();
+      long lsb = uuid.getLeastSignificantBits();
+      char[] chars = new char[BASE32_LENGTH];
+      for (int i = BASE32_LENGTH - 1; i >= 0; i--) {
+        chars[i] = BASE32_ALPHABET[(int) lsb & 0x1F];
+        lsb = (lsb >>> 5) | (msb << 59);
+        msb >>>= 5;
+      }
+      return new String(chars);
+    }
+  },
+
+  /** 22 characters of base62 using digits, upper and lower case letters. */
+  BASE62 {
+    @Override
+    public String encode(UUID uuid) {
+      long msb = uuid.getMostSignificantBits();
+      long lsb = uuid.getLeastSignificantBits();
+      // Four 32-bit limbs, most significant first, divided by 62 once per output character
+      long[] limbs = {msb >>> 32, msb & 0xFFFFFFFFL, lsb >>> 32, lsb & 0xFFFFFFFFL};
+      char[] chars = new char[BASE62_LENGTH];
+      for (int i = BASE62_LENGTH - 1; i >= 0; i--) {
+        long remainder = 0;
+        for (int limb = 0; limb < limbs.length; limb++) {
+          long value = (remainder << 32) | limbs[limb];
+          limbs[limb] = value / 62;
+          remainder = value % 62;
+        }
+        chars[i] = BASE62_ALPHABET[(int) remainder];
+      }
+      return new String(chars);
+    }
+  };
+
+  private static final char[] BASE32_ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+  private static final char[] BASE62_ALPHABET =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+  private static final int BASE32_LENGTH = 26;
+  private static final int BASE62_LENGTH = 22;
+
+  /**
+   * Encodes a UUID.
+   *
+   * @param uuid The UUID to encode.
+   * @return The encoded identifier.
+   */
+  public abstract String encode(UUID uuid);
+}
@@ -0,0 +1,170 @@
+package com.pores.framework.idgenerator;
+
+import com.fasterxml.uuid.Generators;
+import com.fasterxml.uuid.NoArgGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Generates time-ordered identifiers for Elasticsearch documents and cache keys.
+ *
+ * <p>Version 7 identifiers are generated without locks: the millisecond timestamp and a 12-bit
+ * counter share a single {@link AtomicLong} that only ever moves forward, so identifiers are unique
+ * and strictly increasing across all threads of the process, even when the clock steps back. If
+ * more than 4096 identifiers are requested within one millisecond, the counter carries into the
+ * timestamp. The remaining 62 bits come from {@link ThreadLocalRandom}, so the identifiers are
+ * unique but not unguessable and must not be used as secrets.
+ *
+ * <p>Version 6 identifiers are delegated to the java-uuid-generator reordered time-based
+ * generator.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class IdGeneratorService {
+
+  private static final int COUNTER_BITS = 12;
+  private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+  private static final long VERSION_7 = 0x7000L;
+  private static final long VARIANT = 0x8000000000000000L;
+  private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+  private final IdVersion version;
+  private final IdEncoding encoding;
+  private final AtomicLong lastState = new AtomicLong();
+  private final NoArgGenerator reorderedGenerator;
+  private final LongSupplier clock;
+
+  /**
+   * Constructor for IdGeneratorService class.
+   *
+   * @param version The UUID version to generate.
+   * @param encoding The string encoding of generated identifiers.
+   */
+  public IdGeneratorService(IdVersion version, IdEncoding encoding) {
+    this(version, encoding, System::currentTimeMillis);
+  }
+
+  /**
+   * Constructor for IdGeneratorService class with a custom clock, used by tests.
+   *
+   * @param version The UUID version to generate.
+   * @param encoding The string encoding of generated identifiers.
+   * @param clock Supplies the current time in milliseconds for version 7 identifiers.
+   */
+  IdGeneratorService(IdVersion version, IdEncoding encoding, LongSupplier clock) {
+    this.version = version;
+    this.encoding = encoding;
+    this.clock = clock;
+    this.reorderedGenerator =
+        version == IdVersion.V6 ? Generators.timeBasedReorderedGenerator() : null;
+  }
+
+  /**
+   * Generates an identifier in the configured encoding.
+   *
+   * @return The encoded identifier.
+   */
+  public String nextId() {
+    return encoding.encode(nextUuid());
+  }
+
+  /**
+   * Generates a batch of identifiers in the configured encoding, in increasing order. For version
+   * 7 the whole batch is reserved with a single atomic update, which makes pre-allocating
+   * identifiers for bulk ingestion cheaper than generating them one by one.
+   *
+   * @param count The number of identifiers to generate.
+   * @return The encoded identifiers.
+   */
+  public List<String> nextIds(int count) {
+    List<String> ids = new ArrayList<>(count);
+    for (UUID uuid : nextUuids(count)) {
+      ids.add(encoding.encode(uuid));
+    }
+    return ids;
+  }
+
+  /**
+   * Generates a UUID of the configured version.
+   *
+   * @return The UUID.
+   */
+  public UUID nextUuid() {
+    if (reorderedGenerator != null) {
+      return reorderedGenerator.generate();
+    }
+    return toUuidV7(reserve(1));
+  }
+
+  /**
+   * Generates a batch of UUIDs of the configured version, in increasing order.
+   *
+   * @param count The number of UUIDs to generate.
+   * @return The UUIDs.
+   * @throws IllegalArgumentException If the count is negative.
+   */
+  public List<UUID> nextUuids(int count) {
+    if (count < 0) {
+      throw new IllegalArgumentException("Count must not be negative: " + count);
+    }
+    List<UUID> uuids = new ArrayList<>(count);
+    if (count == 0) {
+      return uuids;
+    }
+    if (reorderedGenerator != null) {
+      for (int i = 0; i < count; i++) {
+        uuids.add(reorderedGenerator.generate());
+      }
+      return uuids;
+    }
+    long first = reserve(count);
+    for (int i = 0; i < count; i++) {
+      uuids.add(toUuidV7(first + i));
+    }
+    return uuids;
+  }
+
+  /**
+   * Returns the UUID version generated by this service.
+   *
+   * @return The version.
+   */
+  public IdVersion getVersion() {
+    return version;
+  }
+
+  /**
+   * Reserves a range of timestamp and counter states.
+   *
+   * @param count The number of states to reserve.
+   * @return The first reserved state.
+   */
+  private long reserve(int count) {
+    long now = clock.getAsLong() << COUNTER_BITS;
+    while (true) {
+      long last = lastState.get();
+      long first = Math.max(now, last + 1);
+      if (lastState.compareAndSet(last, first + count - 1)) {
+        return first;
+      }
+    }
+  }
+
+  /**
+   * Lays out a timestamp and counter state as a version 7 UUID with random trailing bits.
+   *
+   * @param state The millisecond timestamp shifted left by the counter width, plus the counter.
+   * @return The UUID.
+   */
+  private static UUID toUuidV7(long state) {
+    long msb = ((state >>> COUNTER_BITS) << 16) | VERSION_7 | (state & COUNTER_MASK);
+    long lsb = (ThreadLocalRandom.current().nextLong() & RANDOM_MASK) | VARIANT;
+    return new UUID(msb, lsb);
+  }
+}
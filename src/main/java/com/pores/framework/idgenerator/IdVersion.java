@@ -0,0 +1,16 @@
+package com.pores.framework.idgenerator;
+
+/**
+ * Time-ordered UUID versions supported by the {@link IdGeneratorService}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum IdVersion {
+
+  /** Unix epoch milliseconds followed by a counter and random bits (RFC 9562 version 7). */
+  V7,
+
+  /** Gregorian timestamp reordered most significant first, with clock sequence and node (v6). */
+  V6
+}
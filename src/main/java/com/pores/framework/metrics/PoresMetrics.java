@@ -0,0 +1,136 @@
+package com.pores.framework.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Central place for the meters published by the framework. Elasticsearch operations are timed per
+ * operation, index and outcome, cache operations per operation, key prefix and outcome. All timers
+ * publish percentile histograms so that p99 latency can be aggregated across instances.
+ *
+ * <p>The key prefix of a cache key is the part before the first {@code ':'}, which keeps the tag
+ * cardinality bounded. Keys without a separator are reported under {@value #NO_KEY_PREFIX}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Component
+public class PoresMetrics {
+
+  public static final String ES_OPERATION = "pores.elasticsearch.operation";
+  public static final String ES_SEARCH_HITS = "pores.elasticsearch.search.hits";
+  public static final String CACHE_OPERATION = "pores.cache.operation";
+
+  public static final String OUTCOME_SUCCESS = "success";
+  public static final String OUTCOME_NOT_FOUND = "not_found";
+  public static final String OUTCOME_ERROR = "error";
+  public static final String OUTCOME_HIT = "hit";
+  public static final String OUTCOME_MISS = "miss";
+  public static final String OUTCOME_REJECTED = "rejected";
+  public static final String OUTCOME_CIRCUIT_OPEN = "circuit_open";
+
+  public static final String NO_KEY_PREFIX = "none";
+  private static final char KEY_PREFIX_SEPARATOR = ':';
+
+  private final MeterRegistry meterRegistry;
+
+  /**
+   * Constructor for PoresMetrics class.
+   *
+   * @param meterRegistry The registry the framework meters are published to.
+   */
+  @Autowired
+  public PoresMetrics(MeterRegistry meterRegistry) {
+    this.meterRegistry = meterRegistry;
+  }
+
+  /**
+   * Starts timing an operation.
+   *
+   * @return The sample to be stopped once the operation completes.
+   */
+  public Timer.Sample startSample() {
+    return Timer.start(meterRegistry);
+  }
+
+  /**
+   * Records the duration of an Elasticsearch operation.
+   *
+   * @param sample The sample started before the operation.
+   * @param operation The operation name, one of the {@code ES_OPERATION_*} constants.
+   * @param index The name of the Elasticsearch index.
+   * @param outcome The outcome of the operation.
+   */
+  public void recordEsOperation(
+      Timer.Sample sample, String operation, String index, String outcome) {
+    sample.stop(
+        Timer.builder(ES_OPERATION)
+            .description("Latency of Elasticsearch operations")
+            .tag("operation", operation)
+            .tag("index", String.valueOf(index))
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+
+  /**
+   * Records the number of hits returned by a search.
+   *
+   * @param index The name of the Elasticsearch index.
+   * @param hits The number of hits in the returned page.
+   */
+  public void recordSearchHits(String index, int hits) {
+    DistributionSummary.builder(ES_SEARCH_HITS)
+        .description("Number of hits returned per search page")
+        .tag("index", String.valueOf(index))
+        .publishPercentileHistogram()
+        .register(meterRegistry)
+        .record(hits);
+  }
+
+  /**
+   * Records the duration of a cache operation.
+   *
+   * @param sample The sample started before the operation.
+   * @param operation The operation name, one of the {@code CACHE_OPERATION_*} constants.
+   * @param key The cache key, without the framework prefix.
+   * @param outcome The outcome of the operation.
+   */
+  public void recordCacheOperation(
+      Timer.Sample sample, String operation, String key, String outcome) {
+    sample.stop(
+        Timer.builder(CACHE_OPERATION)
+            .description("Latency of Redis cache operations")
+            .tag("operation", operation)
+            .tag("keyPrefix", keyPrefix(key))
+            .tag("outcome", outcome)
+            .publishPercentileHistogram()
+            .register(meterRegistry));
+  }
+
+  /**
+   * Returns the registry the framework meters are published to.
+   *
+   * @return The meter registry.
+   */
+  public MeterRegistry getMeterRegistry() {
+    return meterRegistry;
+  }
+
+  /**
+   * Extracts the tag value for the prefix of a cache key.
+   *
+   * @param key The cache key.
+   * @return The part of the key before the first separator, or {@value #NO_KEY_PREFIX}.
+   */
+  private static String keyPrefix(String key) {
+    if (key == null) {
+      return NO_KEY_PREFIX;
+    }
+    int separator = key.indexOf(KEY_PREFIX_SEPARATOR);
+    return separator > 0 ? key.substring(0, separator) : NO_KEY_PREFIX;
+  }
+}
@@ -4,6 +4,9 @@ import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Configuration properties for connecting to an Elasticsearch cluster.
  *
@@ -12,7 +15,8 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * prefixed with `pores.framework.elasticsearch` from the application configuration files.
  *
  * <p>The properties include the Elasticsearch host, port, and optional username/password for
- * authentication.
+ * authentication, the HTTP connection pool limits, the threshold above which searches are reported
+ * in the slow query log, and the document field custom routing is derived from per index.
  *
  * @author Manas Mohan Swain
  * @version 1.0
@@ -25,4 +29,14 @@ public class ElasticSearchProperties {
   private int port = 9200;
   private String username;
   private String password;
+
+  // Connection pool configuration properties
+  private int maxConnTotal = 30;
+  private int maxConnPerRoute = 10;
+
+  // Searches taking at least this long are logged with their query source, negative disables
+  private long slowQueryThresholdMs = 1000;
+
+  // Routing field per index, used to route writes and searches filtering on that field
+  private Map<String, String> routingFields = new HashMap<>();
 }
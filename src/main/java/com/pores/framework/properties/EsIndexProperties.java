@@ -0,0 +1,35 @@
+package com.pores.framework.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for versioned index management.
+ *
+ * <p>This class binds properties prefixed with `pores.framework.elasticsearch.index`. Reindexing
+ * runs as a background task split into slices, where 0 slices lets Elasticsearch pick one slice
+ * per shard and a negative request rate disables throttling. An index is rolled over as soon as
+ * any of the configured conditions is met; blank or non-positive conditions are ignored, and with
+ * no condition left the index is rolled over unconditionally.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pores.framework.elasticsearch.index")
+public class EsIndexProperties {
+
+  // Reindex properties
+  private int reindexSlices = 0;
+  private float reindexRequestsPerSecond = -1;
+  private int reindexBatchSize = 1000;
+  private long reindexProgressIntervalMs = 5000;
+  private long reindexTimeoutMs = 3600000;
+
+  // Rollover conditions
+  private String rolloverMaxPrimaryShardSize = "50gb";
+  private String rolloverMaxAge = "30d";
+  private long rolloverMaxDocs = 0;
+}
@@ -0,0 +1,33 @@
+package com.pores.framework.properties;
+
+import com.pores.framework.elasticsearch.prefetch.PrefetchCache;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for prefetching the next page of paginated searches.
+ *
+ * <p>This class binds properties prefixed with `pores.framework.elasticsearch.prefetch`.
+ * Prefetching is disabled by default. At most {@code maxConcurrent} prefetches run at a time, and
+ * prefetches are skipped while the search limiter is more than half used. Locally cached pages
+ * expire after {@code ttlMs}; pages cached in Redis use the cache service TTL.
+ *
+ * <p>Prefetched pages can be stale. Locally cached pages are dropped when this instance writes to
+ * their index through the framework, but writes by other instances or clients are only seen once
+ * the page expires. Pages cached in Redis are never invalidated and stay stale for up to the cache
+ * service TTL, so the Redis cache only suits indices where that staleness is acceptable.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pores.framework.elasticsearch.prefetch")
+public class EsPrefetchProperties {
+  private boolean enabled = false;
+  private PrefetchCache cache = PrefetchCache.LOCAL;
+  private int maxConcurrent = 4;
+  private long ttlMs = 30000;
+  private int maxEntries = 1000;
+}
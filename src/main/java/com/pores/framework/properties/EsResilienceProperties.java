@@ -0,0 +1,44 @@
+package com.pores.framework.properties;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the resilience policies applied to Elasticsearch calls.
+ *
+ * <p>This class binds properties prefixed with `pores.framework.elasticsearch.resilience`. Every
+ * operation type (index, update, delete, search, ...) gets its own adaptive concurrency limiter
+ * and circuit breaker built from these settings. Hedged requests are only ever sent for searches,
+ * which are idempotent, and are disabled by default.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pores.framework.elasticsearch.resilience")
+public class EsResilienceProperties {
+
+  // Adaptive concurrency limiter properties
+  private boolean limiterEnabled = true;
+  private int initialLimit = 20;
+  private int minLimit = 2;
+  private int maxLimit = 200;
+  private double backoffRatio = 0.9;
+  private long latencyThresholdMs = 2000;
+
+  // Circuit breaker properties
+  private boolean circuitBreakerEnabled = true;
+  private int failureRateThreshold = 50;
+  private int slidingWindowSize = 100;
+  private int minimumCalls = 20;
+  private long openDurationMs = 10000;
+  private int permittedHalfOpenCalls = 5;
+
+  // Hedged search properties
+  private boolean hedgingEnabled = false;
+  private double hedgingPercentile = 95;
+  private long hedgingMinDelayMs = 10;
+  private int hedgingMinSamples = 100;
+}
@@ -0,0 +1,26 @@
+package com.pores.framework.properties;
+
+import com.pores.framework.idgenerator.IdEncoding;
+import com.pores.framework.idgenerator.IdVersion;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Configuration properties for the identifiers generated for documents and cache keys.
+ *
+ * <p>This class binds properties prefixed with `pores.framework.id-generator`. Both supported UUID
+ * versions are time-ordered, so identifiers generated close together share a common prefix, which
+ * keeps Elasticsearch ID lookups and index segments compact.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pores.framework.id-generator")
+public class IdGeneratorProperties {
+
+  private IdVersion version = IdVersion.V7;
+  private IdEncoding encoding = IdEncoding.BASE62;
+}
@@ -1,5 +1,7 @@
 package com.pores.framework.properties;
 
+import com.pores.framework.cache.PoolSizingMode;
+import com.pores.framework.cache.RedisEngine;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
@@ -14,6 +16,13 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
  * <p>The properties include the Redis host, port, and optional password for authentication. It also
  * provides additional pool configuration properties for fine-tuning the connection pool.
  *
+ * <p>The engine selects between the pooled Jedis client and a shared, non-blocking Lettuce
+ * connection. The pool properties only apply to Jedis, the command timeout only to Lettuce.
+ *
+ * <p>Jedis connections are not tested on borrow and return by default, which would add a PING round
+ * trip to every command. Idle connections are tested by the eviction runs instead, and commands
+ * failing on a broken connection are retried on a fresh one.
+ *
  * @author Manas Mohan Swain
  * @version 1.0
  */
@@ -25,16 +34,27 @@ public class RedisProperties {
   private int port = 6379;
   private boolean passwordRequired = false;
   private String password;
+  private RedisEngine engine = RedisEngine.JEDIS;
+
+  // Lettuce configuration properties
+  private long commandTimeout = 2000;
 
   // Pool configuration properties
   private int maxIdle = 128;
   private int maxTotal = 3000;
   private int minIdle = 100;
-  private boolean testOnBorrow = true;
-  private boolean testOnReturn = true;
+  private boolean testOnBorrow = false;
+  private boolean testOnReturn = false;
   private boolean testWhileIdle = true;
   private long minEvictableIdleTime = 120000;
   private long timeBetweenEvictionRuns = 30000;
-  private int numTestsPerEvictionRun = 3;
+  private int numTestsPerEvictionRun = -1;
   private boolean blockWhenExhausted = true;
+  private int brokenConnectionRetries = 1;
+
+  // Adaptive pool sizing properties, maxTotal is the upper bound
+  private PoolSizingMode poolSizing = PoolSizingMode.STATIC;
+  private int adaptiveMinTotal = 8;
+  private long adaptiveTargetBorrowWait = 5;
+  private long adaptiveInterval = 1000;
 }
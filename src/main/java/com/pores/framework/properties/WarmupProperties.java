@@ -0,0 +1,37 @@
+package com.pores.framework.properties;
+
+import com.pores.framework.warmup.WarmupMode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Configuration properties for warming up connections and caches at startup.
+ *
+ * <p>This class binds properties prefixed with `pores.framework.warmup`. A negative number of
+ * connections falls back to the pool settings: the minimum idle connections of the Redis pool and
+ * the per-route connection limit of the Elasticsearch client. The listed JSON schemas are parsed
+ * into the schema cache before the first document is written.
+ *
+ * <p>The mode only controls the warm-up itself. Independently of it, the evictor of the Jedis pool
+ * opens connections up to the pool's minimum idle size within the first eviction run, so a lazy
+ * consumer that must not connect to Redis before first use also sets the minimum idle size to 0.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "pores.framework.warmup")
+public class WarmupProperties {
+
+  private WarmupMode mode = WarmupMode.EAGER;
+  private long timeoutMs = 10000;
+  private int parallelism = 4;
+  private int redisConnections = -1;
+  private int elasticsearchConnections = -1;
+  private List<String> schemaPaths = new ArrayList<>();
+}
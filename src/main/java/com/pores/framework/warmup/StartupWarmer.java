@@ -0,0 +1,327 @@
+package com.pores.framework.warmup;
+
+import com.pores.framework.cache.LettuceConnectionProvider;
+import com.pores.framework.elasticsearch.schema.SchemaFieldRegistry;
+import com.pores.framework.properties.ElasticSearchProperties;
+import com.pores.framework.properties.RedisProperties;
+import com.pores.framework.properties.WarmupProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import redis.clients.jedis.JedisPool;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Warms up the framework once the application has started: fills the Redis pool up to its
+ * minimum idle size (or opens the shared connection of the Lettuce engine), opens Elasticsearch
+ * connections with concurrent lightweight requests, and parses the configured JSON schemas into
+ * the schema cache. All tasks run in parallel, so the first real requests do not pay for
+ * connection setup or schema parsing.
+ *
+ * <p>In {@link WarmupMode#EAGER} mode startup waits for the warm-up at most for the configured
+ * time budget; tasks still running afterwards complete in the background. The state of every task
+ * is reported by the {@link WarmupHealthIndicator}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+@Slf4j
+@SuppressWarnings("deprecation")
+public class StartupWarmer implements ApplicationRunner {
+
+  /** State of a warm-up task. */
+  public enum TaskState {
+    PENDING,
+    DONE,
+    FAILED
+  }
+
+  private final WarmupProperties warmupProperties;
+  private final RedisProperties redisProperties;
+  private final ElasticSearchProperties elasticSearchProperties;
+  private final JedisPool jedisPool;
+  private final LettuceConnectionProvider lettuceConnection;
+  private final RestHighLevelClient elasticsearchClient;
+  private final SchemaFieldRegistry schemaFieldRegistry;
+  private final Map<String, WarmupTask> tasks = new ConcurrentSkipListMap<>();
+
+  /**
+   * Constructor for StartupWarmer class.
+   *
+   * @param warmupProperties The warm-up configuration.
+   * @param redisProperties The Redis pool configuration.
+   * @param elasticSearchProperties The Elasticsearch client configuration.
+   * @param jedisPool The Redis pool to fill, null with the Lettuce engine.
+   * @param lettuceConnection The shared Lettuce connection to open, null with the Jedis engine.
+   * @param elasticsearchClient The Elasticsearch client to open connections with.
+   * @param schemaFieldRegistry The schema cache to preload.
+   */
+  public StartupWarmer(
+      WarmupProperties warmupProperties,
+      RedisProperties redisProperties,
+      ElasticSearchProperties elasticSearchProperties,
+      JedisPool jedisPool,
+      LettuceConnectionProvider lettuceConnection,
+      RestHighLevelClient elasticsearchClient,
+      SchemaFieldRegistry schemaFieldRegistry) {
+    this.warmupProperties = warmupProperties;
+    this.redisProperties = redisProperties;
+    this.elasticSearchProperties = elasticSearchProperties;
+    this.jedisPool = jedisPool;
+    this.lettuceConnection = lettuceConnection;
+    this.elasticsearchClient = elasticsearchClient;
+    this.schemaFieldRegistry = schemaFieldRegistry;
+  }
+
+  @Override
+  public void run(ApplicationArguments args) throws InterruptedException {
+    WarmupMode mode = warmupProperties.getMode();
+    if (mode == WarmupMode.LAZY) {
+      log.info("Skipping warm-up in lazy mode");
+      return;
+    }
+    long start = System.nanoTime();
+    ExecutorService executor =
+        Executors.newFixedThreadPool(
+            Math.max(1, warmupProperties.getParallelism()),
+            runnable -> {
+              Thread thread = new Thread(runnable, "pores-warmup");
+              thread.setDaemon(true);
+              return thread;
+            });
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    futures.add(warmRedis(executor));
+    futures.add(warmElasticsearch());
+    for (String schemaPath : warmupProperties.getSchemaPaths()) {
+      futures.add(preloadSchema(schemaPath, executor));
+    }
+    executor.shutdown();
+    if (mode == WarmupMode.BACKGROUND) {
+      return;
+    }
+    try {
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+          .get(warmupProperties.getTimeoutMs(), TimeUnit.MILLISECONDS);
+    } catch (TimeoutException e) {
+      log.warn("Warm-up time budget spent, continuing in background: {}", getTaskStates());
+      return;
+    } catch (ExecutionException e) {
+      // Failed tasks are logged and reported by the health indicator
+    }
+    log.info(
+        "Warm-up finished in {} ms: {}",
+        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+        getTaskStates());
+  }
+
+  /**
+   * Returns the state of every warm-up task.
+   *
+   * @return The task states by task name, empty if no warm-up ran.
+   */
+  public Map<String, TaskState> getTaskStates() {
+    Map<String, TaskState> states = new ConcurrentSkipListMap<>();
+    tasks.forEach((name, task) -> states.put(name, task.state.get()));
+    return Collections.unmodifiableMap(states);
+  }
+
+  /**
+   * Returns the failure message of every failed warm-up task.
+   *
+   * @return The failure messages by task name.
+   */
+  public Map<String, String> getFailures() {
+    Map<String, String> failures = new ConcurrentSkipListMap<>();
+    tasks.forEach(
+        (name, task) -> {
+          if (task.state.get() == TaskState.FAILED) {
+            failures.put(name, task.failure.get());
+          }
+        });
+    return Collections.unmodifiableMap(failures);
+  }
+
+  /**
+   * Returns the configured warm-up mode.
+   *
+   * @return The mode.
+   */
+  public WarmupMode getMode() {
+    return warmupProperties.getMode();
+  }
+
+  /**
+   * Fills the Redis pool, split into chunks created in parallel. With the Lettuce engine there is
+   * no pool, and its single shared connection is opened and pinged instead.
+   *
+   * @param executor The executor running the chunks.
+   * @return Future completing when the pool is filled.
+   */
+  private CompletableFuture<Void> warmRedis(ExecutorService executor) {
+    if (jedisPool == null) {
+      WarmupTask task = register("redis", 1);
+      CompletableFuture<Void> done = new CompletableFuture<>();
+      lettuceConnection
+          .connection()
+          .thenCompose(connection -> connection.async().ping())
+          .whenComplete(
+              (pong, error) -> {
+                Throwable cause = error instanceof CompletionException ? error.getCause() : error;
+                if (cause instanceof Exception) {
+                  task.fail(done, (Exception) cause);
+                } else if (cause != null) {
+                  task.fail(done, new IllegalStateException(cause));
+                } else {
+                  task.complete(done);
+                }
+              });
+      return done;
+    }
+    int connections = warmupProperties.getRedisConnections();
+    if (connections < 0) {
+      connections = Math.min(redisProperties.getMinIdle(), redisProperties.getMaxIdle());
+    }
+    int chunks = Math.max(1, Math.min(warmupProperties.getParallelism(), connections));
+    WarmupTask task = register("redis", chunks);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (connections == 0) {
+      task.complete(done);
+      return done;
+    }
+    for (int i = 0; i < chunks; i++) {
+      int count = connections / chunks + (i < connections % chunks ? 1 : 0);
+      executor.execute(
+          () -> {
+            try {
+              jedisPool.addObjects(count);
+              task.complete(done);
+            } catch (RuntimeException e) {
+              task.fail(done, e);
+            }
+          });
+    }
+    return done;
+  }
+
+  /**
+   * Opens Elasticsearch connections by sending concurrent requests for the cluster information.
+   * The requests are asynchronous, so every one of them needs its own connection.
+   *
+   * @return Future completing when every request has been answered.
+   */
+  private CompletableFuture<Void> warmElasticsearch() {
+    int connections = warmupProperties.getElasticsearchConnections();
+    if (connections < 0) {
+      connections = elasticSearchProperties.getMaxConnPerRoute();
+    }
+    WarmupTask task = register("elasticsearch", Math.max(1, connections));
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    if (connections == 0) {
+      task.complete(done);
+      return done;
+    }
+    for (int i = 0; i < connections; i++) {
+      elasticsearchClient
+          .getLowLevelClient()
+          .performRequestAsync(
+              new Request("GET", "/"),
+              new ResponseListener() {
+                @Override
+                public void onSuccess(Response response) {
+                  task.complete(done);
+                }
+
+                @Override
+                public void onFailure(Exception exception) {
+                  task.fail(done, exception);
+                }
+              });
+    }
+    return done;
+  }
+
+  /**
+   * Parses a JSON schema into the schema cache.
+   *
+   * @param schemaPath The classpath location of the schema.
+   * @param executor The executor running the task.
+   * @return Future completing when the schema is cached.
+   */
+  private CompletableFuture<Void> preloadSchema(String schemaPath, ExecutorService executor) {
+    WarmupTask task = register("schema:" + schemaPath, 1);
+    CompletableFuture<Void> done = new CompletableFuture<>();
+    executor.execute(
+        () -> {
+          try {
+            schemaFieldRegistry.getFields(schemaPath);
+            task.complete(done);
+          } catch (Exception e) {
+            task.fail(done, e);
+          }
+        });
+    return done;
+  }
+
+  private WarmupTask register(String name, int parts) {
+    WarmupTask task = new WarmupTask(name, parts);
+    tasks.put(name, task);
+    return task;
+  }
+
+  /** A warm-up task made of parts that complete independently. */
+  private static final class WarmupTask {
+
+    private final String name;
+    private final AtomicInteger remainingParts;
+    private final AtomicReference<TaskState> state = new AtomicReference<>(TaskState.PENDING);
+    private final AtomicReference<String> failure = new AtomicReference<>();
+
+    private WarmupTask(String name, int parts) {
+      this.name = name;
+      this.remainingParts = new AtomicInteger(parts);
+    }
+
+    private void complete(CompletableFuture<Void> done) {
+      if (remainingParts.decrementAndGet() <= 0
+          && state.compareAndSet(TaskState.PENDING, TaskState.DONE)) {
+        done.complete(null);
+      }
+    }
+
+    /**
+     * Fails the task. Only the first failing part claims the failure message, and the message is
+     * set before the state, so it is present whenever the state reads FAILED.
+     */
+    private void fail(CompletableFuture<Void> done, Exception e) {
+      Throwable cause = e.getCause();
+      String message = String.valueOf(e.getMessage());
+      if (cause != null) {
+        message += ": " + cause.getMessage();
+      }
+      if (!failure.compareAndSet(null, message)
+          || !state.compareAndSet(TaskState.PENDING, TaskState.FAILED)) {
+        return;
+      }
+      log.warn("Warm-up of {} failed: {}", name, message);
+      done.completeExceptionally(e);
+    }
+  }
+}
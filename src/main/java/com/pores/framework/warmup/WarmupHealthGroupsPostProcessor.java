@@ -0,0 +1,72 @@
+package com.pores.framework.warmup;
+
+import org.springframework.boot.actuate.endpoint.SecurityContext;
+import org.springframework.boot.actuate.health.AdditionalHealthEndpointPath;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.HealthEndpointGroupsPostProcessor;
+import org.springframework.boot.actuate.health.HttpCodeStatusMapper;
+import org.springframework.boot.actuate.health.StatusAggregator;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Removes the {@link WarmupHealthIndicator} from the overall health, so a warm-up in progress only
+ * holds back the health groups that include it, typically readiness, and never the liveness of
+ * the application or the status reported by {@code /actuator/health}.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WarmupHealthGroupsPostProcessor implements HealthEndpointGroupsPostProcessor {
+
+  @Override
+  public HealthEndpointGroups postProcessHealthEndpointGroups(HealthEndpointGroups groups) {
+    Map<String, HealthEndpointGroup> namedGroups = new LinkedHashMap<>();
+    for (String name : groups.getNames()) {
+      namedGroups.put(name, groups.get(name));
+    }
+    return HealthEndpointGroups.of(new WithoutWarmup(groups.getPrimary()), namedGroups);
+  }
+
+  /** The primary group without the warm-up indicator. */
+  private static final class WithoutWarmup implements HealthEndpointGroup {
+
+    private final HealthEndpointGroup delegate;
+
+    private WithoutWarmup(HealthEndpointGroup delegate) {
+      this.delegate = delegate;
+    }
+
+    @Override
+    public boolean isMember(String name) {
+      return !WarmupHealthIndicator.NAME.equals(name) && delegate.isMember(name);
+    }
+
+    @Override
+    public boolean showComponents(SecurityContext securityContext) {
+      return delegate.showComponents(securityContext);
+    }
+
+    @Override
+    public boolean showDetails(SecurityContext securityContext) {
+      return delegate.showDetails(securityContext);
+    }
+
+    @Override
+    public StatusAggregator getStatusAggregator() {
+      return delegate.getStatusAggregator();
+    }
+
+    @Override
+    public HttpCodeStatusMapper getHttpCodeStatusMapper() {
+      return delegate.getHttpCodeStatusMapper();
+    }
+
+    @Override
+    public AdditionalHealthEndpointPath getAdditionalPath() {
+      return delegate.getAdditionalPath();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+package com.pores.framework.warmup;
+
+import org.springframework.boot.actuate.health.AbstractHealthIndicator;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Map;
+
+/**
+ * Reports whether the startup warm-up has completed, for use in the readiness health group. The
+ * status is {@code OUT_OF_SERVICE} while any task is still running, and {@code UP} once every task
+ * has settled or when the warm-up is skipped in lazy mode. Failed tasks only slow down the first
+ * requests, so they are reported as details and do not take the application out of service.
+ *
+ * <p>The indicator is left out of the overall health by {@link WarmupHealthGroupsPostProcessor},
+ * so it only affects the groups it is explicitly included in.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public class WarmupHealthIndicator extends AbstractHealthIndicator {
+
+  /** Name the indicator is registered under. */
+  public static final String NAME = "poresWarmup";
+
+  private final StartupWarmer startupWarmer;
+
+  /**
+   * Constructor for WarmupHealthIndicator class.
+   *
+   * @param startupWarmer The warmer whose task states are reported.
+   */
+  public WarmupHealthIndicator(StartupWarmer startupWarmer) {
+    this.startupWarmer = startupWarmer;
+  }
+
+  @Override
+  protected void doHealthCheck(Health.Builder builder) {
+    Map<String, StartupWarmer.TaskState> states = startupWarmer.getTaskStates();
+    builder.withDetail("mode", startupWarmer.getMode()).withDetails(states);
+    Map<String, String> failures = startupWarmer.getFailures();
+    if (!failures.isEmpty()) {
+      builder.withDetail("failures", failures);
+    }
+    if (states.containsValue(StartupWarmer.TaskState.PENDING)
+        || (states.isEmpty() && startupWarmer.getMode() != WarmupMode.LAZY)) {
+      builder.status(Status.OUT_OF_SERVICE);
+    } else {
+      builder.up();
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.pores.framework.warmup;
+
+/**
+ * How the framework warms up its connections and caches at startup.
+ *
+ * @version 1.0
+ * @since 2026-10-18
+ */
+public enum WarmupMode {
+
+  /** Warm up in parallel and hold startup until done or the time budget is spent. */
+  EAGER,
+
+  /** Warm up in parallel without holding startup; readiness reports when it is done. */
+  BACKGROUND,
+
+  /**
+   * Skip the warm-up and do not touch the network at startup, for CLI and batch consumers. The
+   * Jedis pool evictor still fills the pool up to {@code min-idle} within the first eviction run
+   * in every mode, so set {@code pores.framework.redis.min-idle=0} to keep Redis untouched until
+   * first use.
+   */
+  LAZY
+}
@@ -0,0 +1,70 @@
+package com.pores.framework.cache;
+
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisURI;
+import io.lettuce.core.api.StatefulRedisConnection;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+class LettuceConnectionProviderTest {
+
+  private RedisClient redisClient;
+  private LettuceConnectionProvider provider;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    RedisURI redisUri =
+        RedisURI.builder()
+            .withHost("127.0.0.1")
+            .withPort(port)
+            .withTimeout(Duration.ofSeconds(1))
+            .build();
+    redisClient = RedisClient.create(redisUri);
+    provider = new LettuceConnectionProvider(redisClient, redisUri);
+  }
+
+  @AfterEach
+  void tearDown() {
+    provider.close();
+    redisClient.shutdown();
+  }
+
+  @Test
+  void failsWithoutBlockingWhileRedisIsUnreachable() {
+    CompletableFuture<StatefulRedisConnection<String, String>> first = provider.connection();
+
+    assertThrows(CompletionException.class, first::join);
+    assertSame(first, provider.connection());
+    assertThrows(IllegalStateException.class, provider::awaitConnection);
+  }
+
+  @Test
+  void retriesAfterRetryInterval() throws InterruptedException {
+    CompletableFuture<StatefulRedisConnection<String, String>> first = provider.connection();
+    assertThrows(CompletionException.class, first::join);
+
+    TimeUnit.MILLISECONDS.sleep(LettuceConnectionProvider.RETRY_INTERVAL_MS + 100);
+    CompletableFuture<StatefulRedisConnection<String, String>> second = provider.connection();
+
+    assertNotSame(first, second);
+    assertThrows(CompletionException.class, second::join);
+    assertTrue(second.isCompletedExceptionally());
+  }
+}
@@ -0,0 +1,199 @@
+package com.pores.framework.elasticsearch.prefetch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.pores.framework.cache.CacheService;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.elasticsearch.dto.SearchResult;
+import com.pores.framework.elasticsearch.resilience.EsResilienceExecutor;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.EsPrefetchProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+class SearchPrefetcherTest {
+
+  private static final String INDEX = "orders";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CacheService cacheService = mock(CacheService.class);
+  private final EsResilienceExecutor esResilienceExecutor = mock(EsResilienceExecutor.class);
+  private final EsPrefetchProperties properties = new EsPrefetchProperties();
+  private SearchPrefetcher prefetcher;
+
+  @BeforeEach
+  void setUp() {
+    properties.setEnabled(true);
+    when(esResilienceExecutor.hasHeadroom(anyString())).thenReturn(true);
+    prefetcher =
+        new SearchPrefetcher(
+            properties,
+            cacheService,
+            new ObjectMapper(),
+            new PoresMetrics(meterRegistry),
+            esResilienceExecutor);
+  }
+
+  @AfterEach
+  void tearDown() {
+    prefetcher.shutdown();
+  }
+
+  @Test
+  void keyIgnoresFilterOrder() {
+    Map<String, Object> filters = new LinkedHashMap<>();
+    filters.put("tenantId", "acme");
+    filters.put("status", Arrays.asList("open", "paid"));
+    Map<String, Object> reordered = new LinkedHashMap<>();
+    reordered.put("status", Arrays.asList("open", "paid"));
+    reordered.put("tenantId", "acme");
+
+    String key = prefetcher.key(INDEX, criteria(filters, 10));
+    assertEquals(key, prefetcher.key(INDEX, criteria(reordered, 10)));
+    assertNotEquals(key, prefetcher.key(INDEX, criteria(filters, 20)));
+    assertNotEquals(key, prefetcher.key("invoices", criteria(filters, 10)));
+  }
+
+  @Test
+  void servesPrefetchedPageToEqualCriteriaOnce() throws InterruptedException {
+    SearchResult page = new SearchResult();
+    prefetcher.prefetchNext(INDEX, criteria(filters("acme"), 0), 100, next -> page);
+    awaitOutcome(SearchPrefetcher.OUTCOME_STORED, 1);
+
+    assertSame(page, prefetcher.take(INDEX, criteria(filters("acme"), 10)));
+    assertNull(prefetcher.take(INDEX, criteria(filters("acme"), 10)));
+  }
+
+  @Test
+  void boundsLocalCacheByMaxEntries() throws InterruptedException {
+    properties.setMaxEntries(2);
+    prefetchFirstPage("a");
+    awaitOutcome(SearchPrefetcher.OUTCOME_STORED, 1);
+    prefetchFirstPage("b");
+    awaitOutcome(SearchPrefetcher.OUTCOME_STORED, 2);
+    prefetchFirstPage("c");
+    awaitOutcome(SearchPrefetcher.OUTCOME_WASTED, 1);
+
+    assertNotNull(prefetcher.take(INDEX, criteria(filters("a"), 10)));
+    assertNotNull(prefetcher.take(INDEX, criteria(filters("b"), 10)));
+    assertNull(prefetcher.take(INDEX, criteria(filters("c"), 10)));
+  }
+
+  @Test
+  void writesDropCachedPagesOfTheIndex() throws InterruptedException {
+    prefetchFirstPage("acme");
+    awaitOutcome(SearchPrefetcher.OUTCOME_STORED, 1);
+
+    prefetcher.invalidate(INDEX + "_write");
+
+    assertNull(prefetcher.take(INDEX, criteria(filters("acme"), 10)));
+  }
+
+  @Test
+  void writesDiscardPrefetchesStillRunning() throws InterruptedException {
+    CountDownLatch loading = new CountDownLatch(1);
+    CountDownLatch written = new CountDownLatch(1);
+    prefetcher.prefetchNext(
+        INDEX,
+        criteria(filters("acme"), 0),
+        100,
+        next -> {
+          loading.countDown();
+          await(written);
+          return new SearchResult();
+        });
+    loading.await(5, TimeUnit.SECONDS);
+    prefetcher.invalidate(INDEX);
+    written.countDown();
+    awaitOutcome(SearchPrefetcher.OUTCOME_WASTED, 1);
+
+    assertNull(prefetcher.take(INDEX, criteria(filters("acme"), 10)));
+    assertEquals(0, outcome(SearchPrefetcher.OUTCOME_STORED));
+  }
+
+  @Test
+  void firstPagesAreNotLookedUpInRedis() {
+    properties.setCache(PrefetchCache.REDIS);
+
+    assertNull(prefetcher.take(INDEX, criteria(filters("acme"), 0)));
+    assertNull(prefetcher.take(INDEX, criteria(filters("acme"), 5)));
+    verify(cacheService, never()).getCache(anyString());
+
+    prefetcher.take(INDEX, criteria(filters("acme"), 10));
+    verify(cacheService).getCache(anyString());
+  }
+
+  @Test
+  void countsPagesAsStoredOnlyOnceWrittenToRedis() throws InterruptedException {
+    properties.setCache(PrefetchCache.REDIS);
+    when(cacheService.putCache(anyString(), any())).thenReturn(false);
+
+    prefetchFirstPage("acme");
+    awaitOutcome(PoresMetrics.OUTCOME_ERROR, 1);
+    assertEquals(0, outcome(SearchPrefetcher.OUTCOME_STORED));
+    assertEquals(0, prefetcher.getWasteRatio());
+
+    when(cacheService.putCache(anyString(), any())).thenReturn(true);
+    prefetchFirstPage("globex");
+    awaitOutcome(SearchPrefetcher.OUTCOME_STORED, 1);
+  }
+
+  private void prefetchFirstPage(String tenant) {
+    prefetcher.prefetchNext(INDEX, criteria(filters(tenant), 0), 100, next -> new SearchResult());
+  }
+
+  private static SearchCriteria criteria(Map<String, Object> filters, int pageNumber) {
+    SearchCriteria searchCriteria = new SearchCriteria();
+    searchCriteria.setFilterCriteriaMap(filters);
+    searchCriteria.setPageNumber(pageNumber);
+    searchCriteria.setPageSize(10);
+    return searchCriteria;
+  }
+
+  private static Map<String, Object> filters(String tenant) {
+    return Collections.singletonMap("tenantId", tenant);
+  }
+
+  private double outcome(String outcome) {
+    Counter counter =
+        meterRegistry.find(SearchPrefetcher.PREFETCH).tag("outcome", outcome).counter();
+    return counter != null ? counter.count() : 0;
+  }
+
+  private void awaitOutcome(String outcome, int count) throws InterruptedException {
+    long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (outcome(outcome) < count && System.nanoTime() < deadline) {
+      TimeUnit.MILLISECONDS.sleep(5);
+    }
+    assertEquals(count, outcome(outcome), outcome);
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
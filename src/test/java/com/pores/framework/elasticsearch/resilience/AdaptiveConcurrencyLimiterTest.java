@@ -0,0 +1,76 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class AdaptiveConcurrencyLimiterTest {
+
+  private static final long THRESHOLD_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  private static final long FAST_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  @Test
+  void rejectsCallsOverTheLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(2, 1, 10);
+    assertTrue(limiter.tryAcquire());
+    assertTrue(limiter.tryAcquire());
+    assertFalse(limiter.tryAcquire());
+    assertEquals(2, limiter.getInFlight());
+
+    limiter.onIgnored();
+    assertTrue(limiter.tryAcquire());
+  }
+
+  @Test
+  void backsOffOnOverloadDownToMinimum() {
+    AdaptiveConcurrencyLimiter limiter = limiter(8, 2, 10);
+    limiter.tryAcquire();
+    limiter.onDropped();
+    assertEquals(4, limiter.getLimit());
+    limiter.tryAcquire();
+    limiter.onSuccess(THRESHOLD_NANOS + 1);
+    assertEquals(2, limiter.getLimit());
+    limiter.tryAcquire();
+    limiter.onDropped();
+    assertEquals(2, limiter.getLimit());
+    assertEquals(0, limiter.getInFlight());
+  }
+
+  @Test
+  void growsOnlyWhileHalfTheLimitIsUsed() {
+    AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 5);
+    for (int i = 0; i < 20; i++) {
+      limiter.tryAcquire();
+      limiter.onSuccess(FAST_NANOS);
+    }
+    assertEquals(4, limiter.getLimit());
+
+    for (int i = 0; i < 40; i++) {
+      for (int j = 0; j < 3; j++) {
+        limiter.tryAcquire();
+      }
+      for (int j = 0; j < 3; j++) {
+        limiter.onSuccess(FAST_NANOS);
+      }
+    }
+    assertEquals(5, limiter.getLimit());
+  }
+
+  @Test
+  void reportsHeadroomBelowHalfTheLimit() {
+    AdaptiveConcurrencyLimiter limiter = limiter(4, 1, 10);
+    assertTrue(limiter.hasHeadroom());
+    limiter.tryAcquire();
+    assertTrue(limiter.hasHeadroom());
+    limiter.tryAcquire();
+    assertFalse(limiter.hasHeadroom());
+  }
+
+  private static AdaptiveConcurrencyLimiter limiter(int initialLimit, int minLimit, int maxLimit) {
+    return new AdaptiveConcurrencyLimiter(initialLimit, minLimit, maxLimit, 0.5, THRESHOLD_NANOS);
+  }
+}
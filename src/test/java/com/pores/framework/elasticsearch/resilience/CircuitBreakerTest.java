@@ -0,0 +1,102 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class CircuitBreakerTest {
+
+  @Test
+  void staysClosedBelowMinimumCalls() {
+    CircuitBreaker breaker = new CircuitBreaker(50, 10, 4, TimeUnit.HOURS.toNanos(1), 2);
+    for (int i = 0; i < 3; i++) {
+      assertTrue(breaker.tryAcquirePermission());
+      breaker.onFailure();
+    }
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void opensAtFailureRateThresholdAndRejectsCalls() {
+    CircuitBreaker breaker = new CircuitBreaker(50, 4, 4, TimeUnit.HOURS.toNanos(1), 2);
+    breaker.onSuccess();
+    breaker.onSuccess();
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void slidingWindowForgetsOldFailures() {
+    CircuitBreaker breaker = new CircuitBreaker(50, 4, 4, TimeUnit.HOURS.toNanos(1), 2);
+    breaker.onFailure();
+    for (int i = 0; i < 4; i++) {
+      breaker.onSuccess();
+    }
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void halfOpenPermitsOnlyConfiguredTrialCalls() {
+    CircuitBreaker breaker = openBreaker(3);
+    assertTrue(breaker.tryAcquirePermission());
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    assertTrue(breaker.tryAcquirePermission());
+    assertTrue(breaker.tryAcquirePermission());
+    assertFalse(breaker.tryAcquirePermission());
+
+    breaker.onIgnored();
+    assertTrue(breaker.tryAcquirePermission());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  @Test
+  void closesAfterAllTrialCallsSucceed() {
+    CircuitBreaker breaker = openBreaker(2);
+    assertTrue(breaker.tryAcquirePermission());
+    assertTrue(breaker.tryAcquirePermission());
+    breaker.onSuccess();
+    assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.getState());
+    breaker.onSuccess();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+  }
+
+  @Test
+  void reopensOnFailedTrialCall() {
+    CircuitBreaker breaker =
+        new CircuitBreaker(50, 2, 2, TimeUnit.MILLISECONDS.toNanos(200), 2);
+    breaker.onFailure();
+    breaker.onFailure();
+    sleep(250);
+    assertTrue(breaker.tryAcquirePermission());
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    assertFalse(breaker.tryAcquirePermission());
+  }
+
+  private static CircuitBreaker openBreaker(int permittedHalfOpenCalls) {
+    CircuitBreaker breaker = new CircuitBreaker(50, 2, 2, 0, permittedHalfOpenCalls);
+    breaker.onFailure();
+    breaker.onFailure();
+    assertEquals(CircuitBreaker.State.OPEN, breaker.getState());
+    return breaker;
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
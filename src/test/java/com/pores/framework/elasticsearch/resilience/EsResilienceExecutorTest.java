@@ -0,0 +1,238 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.pores.framework.constant.Constants;
+import com.pores.framework.elasticsearch.exception.EsCircuitOpenException;
+import com.pores.framework.elasticsearch.exception.EsOperationException;
+import com.pores.framework.metrics.PoresMetrics;
+import com.pores.framework.properties.EsResilienceProperties;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.HttpHost;
+import org.elasticsearch.ElasticsearchStatusException;
+import org.elasticsearch.action.search.SearchRequest;
+import org.elasticsearch.client.RestClient;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.rest.RestStatus;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@SuppressWarnings("deprecation")
+class EsResilienceExecutorTest {
+
+  private static final String INDEX = "test-index";
+
+  private static final String MAIN_RESPONSE =
+      "{\"name\":\"test\",\"cluster_name\":\"test\",\"cluster_uuid\":\"test\","
+          + "\"version\":{\"number\":\"7.17.13\",\"build_flavor\":\"default\","
+          + "\"build_type\":\"tar\",\"build_hash\":\"test\","
+          + "\"build_date\":\"2023-08-30T00:00:00.000Z\",\"build_snapshot\":false,"
+          + "\"lucene_version\":\"8.11.1\",\"minimum_wire_compatibility_version\":\"6.8.0\","
+          + "\"minimum_index_compatibility_version\":\"6.0.0-beta1\"},"
+          + "\"tagline\":\"You Know, for Search\"}";
+
+  private static final String SEARCH_RESPONSE =
+      "{\"took\":1,\"timed_out\":false,"
+          + "\"_shards\":{\"total\":1,\"successful\":1,\"skipped\":0,\"failed\":0},"
+          + "\"hits\":{\"total\":{\"value\":0,\"relation\":\"eq\"},\"max_score\":null,"
+          + "\"hits\":[]}}";
+
+  private final AtomicInteger searches = new AtomicInteger();
+  private final CountDownLatch releaseBlockedSearch = new CountDownLatch(1);
+  private volatile int blockedSearch = -1;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private RestHighLevelClient client;
+  private SimpleMeterRegistry meterRegistry;
+  private EsResilienceProperties properties;
+
+  @BeforeEach
+  void setUp() throws IOException {
+    serverExecutor = Executors.newCachedThreadPool();
+    server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+    server.createContext("/", this::handle);
+    server.setExecutor(serverExecutor);
+    server.start();
+    client =
+        new RestHighLevelClient(
+            RestClient.builder(
+                new HttpHost("127.0.0.1", server.getAddress().getPort(), "http")));
+    meterRegistry = new SimpleMeterRegistry();
+    properties = new EsResilienceProperties();
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    releaseBlockedSearch.countDown();
+    client.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  void wrapsUnexpectedClientFailuresAndOpensCircuit() {
+    properties.setSlidingWindowSize(2);
+    properties.setMinimumCalls(2);
+    EsResilienceExecutor executor = executor();
+    EsCall<Object> stoppedClient =
+        () -> {
+          throw new IllegalStateException("I/O reactor status: STOPPED");
+        };
+
+    for (int i = 0; i < 2; i++) {
+      EsOperationException e =
+          assertThrows(
+              EsOperationException.class,
+              () -> executor.execute(Constants.ES_OPERATION_INDEX, INDEX, stoppedClient));
+      assertTrue(e.getCause() instanceof IllegalStateException);
+    }
+    assertThrows(
+        EsCircuitOpenException.class,
+        () -> executor.execute(Constants.ES_OPERATION_INDEX, INDEX, () -> "ok"));
+  }
+
+  @Test
+  void clientErrorsDoNotOpenCircuit() {
+    properties.setSlidingWindowSize(2);
+    properties.setMinimumCalls(2);
+    EsResilienceExecutor executor = executor();
+    EsCall<Object> notFound =
+        () -> {
+          throw new ElasticsearchStatusException("missing", RestStatus.NOT_FOUND);
+        };
+
+    for (int i = 0; i < 3; i++) {
+      assertThrows(
+          EsOperationException.class,
+          () -> executor.execute(Constants.ES_OPERATION_INDEX, INDEX, notFound));
+    }
+    assertEquals("ok", executor.execute(Constants.ES_OPERATION_INDEX, INDEX, () -> "ok"));
+  }
+
+  @Test
+  void hedgesSlowSearchAndReturnsFirstResponse() throws Exception {
+    EsResilienceExecutor executor = hedgingExecutor(50);
+    warmUpLatency(executor);
+
+    blockedSearch = searches.get() + 1;
+    long start = System.nanoTime();
+    assertNotNull(search(executor));
+
+    assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5));
+    assertEquals(1, hedgedRequests());
+    assertEquals(3, searches.get());
+    assertTrue(executor.hasHeadroom(Constants.ES_OPERATION_SEARCH));
+  }
+
+  @Test
+  void doesNotHedgeWhenPrimaryCompletesFirst() throws Exception {
+    EsResilienceExecutor executor = hedgingExecutor(200);
+    warmUpLatency(executor);
+
+    assertNotNull(search(executor));
+    Thread.sleep(400);
+
+    assertEquals(0, hedgedRequests());
+    assertEquals(2, searches.get());
+  }
+
+  @Test
+  void recordsPrimaryLatencyWhenHedgeWins() throws Exception {
+    EsResilienceExecutor executor = hedgingExecutor(100);
+    warmUpLatency(executor);
+
+    blockedSearch = searches.get() + 1;
+    assertNotNull(search(executor));
+    Thread.sleep(1100);
+
+    long percentileNanos =
+        executor.searchLatency(Constants.ES_OPERATION_SEARCH, INDEX).getValueNanos();
+    assertTrue(percentileNanos >= TimeUnit.MILLISECONDS.toNanos(100));
+  }
+
+  @Test
+  void tracksLatencyPerIndex() throws Exception {
+    EsResilienceExecutor executor = hedgingExecutor(50);
+    warmUpLatency(executor);
+
+    blockedSearch = searches.get() + 1;
+    ScheduledExecutorService releaser = Executors.newSingleThreadScheduledExecutor();
+    try {
+      releaser.schedule(releaseBlockedSearch::countDown, 300, TimeUnit.MILLISECONDS);
+      assertNotNull(
+          executor.search(
+              Constants.ES_OPERATION_SEARCH, "other-index", new SearchRequest("other-index")));
+    } finally {
+      releaser.shutdownNow();
+    }
+
+    assertEquals(0, hedgedRequests());
+  }
+
+  private EsResilienceExecutor executor() {
+    return new EsResilienceExecutor(client, properties, new PoresMetrics(meterRegistry));
+  }
+
+  private EsResilienceExecutor hedgingExecutor(long minDelayMs) {
+    properties.setHedgingEnabled(true);
+    properties.setHedgingMinSamples(1);
+    properties.setHedgingMinDelayMs(minDelayMs);
+    return executor();
+  }
+
+  /**
+   * Sends one search so the latency tracker has a sample, then waits until the tracker refreshes
+   * its cached percentile.
+   */
+  private void warmUpLatency(EsResilienceExecutor executor) throws InterruptedException {
+    assertNotNull(search(executor));
+    Thread.sleep(1100);
+  }
+
+  private Object search(EsResilienceExecutor executor) {
+    return executor.search(Constants.ES_OPERATION_SEARCH, INDEX, new SearchRequest(INDEX));
+  }
+
+  private double hedgedRequests() {
+    return meterRegistry.get("pores.elasticsearch.hedged.requests").counter().count();
+  }
+
+  private void handle(HttpExchange exchange) throws IOException {
+    String body = MAIN_RESPONSE;
+    if (exchange.getRequestURI().getPath().endsWith("_search")) {
+      if (searches.incrementAndGet() == blockedSearch) {
+        try {
+          releaseBlockedSearch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+        }
+      }
+      body = SEARCH_RESPONSE;
+    }
+    byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.getResponseHeaders().add("X-Elastic-Product", "Elasticsearch");
+    exchange.sendResponseHeaders(200, bytes.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,49 @@
+package com.pores.framework.elasticsearch.resilience;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.Test;
+
+class LatencyPercentileTrackerTest {
+
+  @Test
+  void reportsNoValueBelowMinimumSamples() {
+    LatencyPercentileTracker tracker = new LatencyPercentileTracker(100, 95, 10);
+    for (int i = 0; i < 9; i++) {
+      tracker.record(i);
+    }
+    assertEquals(-1, tracker.getValueNanos());
+  }
+
+  @Test
+  void computesPercentileOverSamples() {
+    LatencyPercentileTracker tracker = new LatencyPercentileTracker(100, 95, 10);
+    for (int i = 100; i >= 1; i--) {
+      tracker.record(i);
+    }
+    assertEquals(95, tracker.getValueNanos());
+  }
+
+  @Test
+  void keepsOnlyMostRecentSamples() {
+    LatencyPercentileTracker tracker = new LatencyPercentileTracker(10, 50, 1);
+    for (int i = 0; i < 10; i++) {
+      tracker.record(1_000);
+    }
+    for (int i = 0; i < 10; i++) {
+      tracker.record(i + 1);
+    }
+    assertEquals(5, tracker.getValueNanos());
+  }
+
+  @Test
+  void refreshesAtMostOncePerInterval() {
+    LatencyPercentileTracker tracker = new LatencyPercentileTracker(100, 50, 1);
+    tracker.record(10);
+    assertEquals(10, tracker.getValueNanos());
+    for (int i = 0; i < 10; i++) {
+      tracker.record(1_000);
+    }
+    assertEquals(10, tracker.getValueNanos());
+  }
+}
@@ -0,0 +1,64 @@
+package com.pores.framework.elasticsearch.routing;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import com.pores.framework.properties.ElasticSearchProperties;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class RoutingKeyResolverTest {
+
+  private final RoutingKeyResolver resolver = resolver();
+
+  @Test
+  void routesWritesByConfiguredField() {
+    Map<String, Object> document = Collections.singletonMap("tenantId", "acme");
+    assertEquals("acme", resolver.resolve("orders", null, document));
+    assertEquals("explicit", resolver.resolve("orders", "explicit", Collections.emptyMap()));
+    assertNull(resolver.resolve("products", null, Collections.emptyMap()));
+  }
+
+  @Test
+  void rejectsWritesLackingRoutingField() {
+    Map<String, Object> document = Collections.singletonMap("status", "open");
+    assertThrows(IllegalArgumentException.class, () -> resolver.resolve("orders", null, document));
+  }
+
+  @Test
+  void registeredExtractorMayLeaveWritesUnrouted() {
+    resolver.register("orders", document -> null);
+    assertNull(resolver.resolve("orders", null, Collections.emptyMap()));
+  }
+
+  @Test
+  void rejectsUnroutedDeletesFromRoutedIndices() {
+    assertEquals("acme", resolver.resolveDelete("orders", "acme"));
+    assertNull(resolver.resolveDelete("products", null));
+    assertThrows(IllegalArgumentException.class, () -> resolver.resolveDelete("orders", null));
+  }
+
+  @Test
+  void routesSearchesByFilterValues() {
+    SearchCriteria searchCriteria = new SearchCriteria();
+    Map<String, Object> filters = new HashMap<>();
+    filters.put("tenantId", Arrays.asList("acme", "globex", "acme"));
+    searchCriteria.setFilterCriteriaMap(filters);
+    assertArrayEquals(
+        new String[] {"acme", "globex"}, resolver.resolveSearchRouting("orders", searchCriteria));
+    assertNull(resolver.resolveSearchRouting("products", searchCriteria));
+  }
+
+  private static RoutingKeyResolver resolver() {
+    ElasticSearchProperties properties = new ElasticSearchProperties();
+    properties.getRoutingFields().put("orders", "tenantId");
+    return new RoutingKeyResolver(properties);
+  }
+}
@@ -0,0 +1,151 @@
+package com.pores.framework.elasticsearch.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.pores.framework.elasticsearch.dto.SearchCriteria;
+import org.apache.lucene.search.TotalHits;
+import org.elasticsearch.action.search.SearchResponse;
+import org.elasticsearch.action.search.ShardSearchFailure;
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.bytes.CompositeBytesReference;
+import org.elasticsearch.index.query.BoolQueryBuilder;
+import org.elasticsearch.index.query.QueryBuilder;
+import org.elasticsearch.index.query.TermsQueryBuilder;
+import org.elasticsearch.search.SearchHit;
+import org.elasticsearch.search.SearchHits;
+import org.elasticsearch.search.internal.InternalSearchResponse;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+class EsUtilServiceImplTest {
+
+  private final EsUtilServiceImpl esUtilService = new EsUtilServiceImpl();
+  private final ObjectReader itemReader = new ObjectMapper().readerFor(Item.class);
+
+  @Test
+  void bindsArrayBackedSources() throws IOException {
+    SearchResponse response =
+        response(hit("1", new BytesArray("{\"name\":\"lamp\",\"price\":20}")));
+
+    List<Item> items = esUtilService.extractTypedResult(response, itemReader);
+
+    assertEquals(1, items.size());
+    assertEquals("lamp", items.get(0).name);
+    assertEquals(20, items.get(0).price);
+  }
+
+  @Test
+  void bindsSourcesNotBackedByASingleArray() throws IOException {
+    BytesReference source =
+        CompositeBytesReference.of(
+            new BytesArray("{\"name\":\"ch".getBytes(StandardCharsets.UTF_8)),
+            new BytesArray("air\",\"price\":45}".getBytes(StandardCharsets.UTF_8)));
+    assertFalse(source.hasArray());
+
+    List<Item> items = esUtilService.extractTypedResult(response(hit("1", source)), itemReader);
+
+    assertEquals(1, items.size());
+    assertEquals("chair", items.get(0).name);
+    assertEquals(45, items.get(0).price);
+  }
+
+  @Test
+  void bindsArraySliceAtItsOffset() throws IOException {
+    byte[] padded = "xx{\"name\":\"desk\",\"price\":90}yy".getBytes(StandardCharsets.UTF_8);
+    BytesArray source = new BytesArray(padded, 2, padded.length - 4);
+    assertTrue(source.hasArray());
+
+    List<Item> items = esUtilService.extractTypedResult(response(hit("1", source)), itemReader);
+
+    assertEquals("desk", items.get(0).name);
+  }
+
+  @Test
+  void skipsHitsWithoutSource() throws IOException {
+    SearchResponse response =
+        response(
+            hit("1", null),
+            hit("2", new BytesArray("{\"name\":\"sofa\",\"price\":300}")),
+            hit("3", null));
+
+    List<Item> items = esUtilService.extractTypedResult(response, itemReader);
+
+    assertEquals(1, items.size());
+    assertEquals("sofa", items.get(0).name);
+  }
+
+  @Test
+  void returnsEmptyListWithoutHits() throws IOException {
+    assertTrue(esUtilService.extractTypedResult(response(), itemReader).isEmpty());
+  }
+
+  @Test
+  void failsOnSourceThatDoesNotBind() {
+    SearchResponse response = response(hit("1", new BytesArray("{\"price\":\"free\"}")));
+
+    assertThrows(IOException.class, () -> esUtilService.extractTypedResult(response, itemReader));
+  }
+
+  @Test
+  void filtersByEveryKindOfCollection() {
+    List<Collection<String>> tenants =
+        Arrays.asList(
+            Arrays.asList("acme", "globex"),
+            List.of("acme", "globex"),
+            new LinkedHashSet<>(Arrays.asList("acme", "globex")));
+    for (Collection<String> tenant : tenants) {
+      SearchCriteria searchCriteria = new SearchCriteria();
+      searchCriteria.setFilterCriteriaMap(Collections.singletonMap("tenantId", tenant));
+
+      BoolQueryBuilder query =
+          (BoolQueryBuilder) esUtilService.buildSearchSourceBuilder(searchCriteria).query();
+
+      List<QueryBuilder> clauses = query.must();
+      assertEquals(1, clauses.size());
+      TermsQueryBuilder terms = (TermsQueryBuilder) clauses.get(0);
+      assertEquals("tenantId.keyword", terms.fieldName());
+      assertEquals(List.of("acme", "globex"), terms.values());
+    }
+  }
+
+  private static SearchHit hit(String id, BytesReference source) {
+    SearchHit hit = new SearchHit(0, id, null, Collections.emptyMap(), Collections.emptyMap());
+    hit.sourceRef(source);
+    return hit;
+  }
+
+  private static SearchResponse response(SearchHit... hits) {
+    SearchHits searchHits =
+        new SearchHits(hits, new TotalHits(hits.length, TotalHits.Relation.EQUAL_TO), 1.0f);
+    InternalSearchResponse internalResponse =
+        new InternalSearchResponse(searchHits, null, null, null, false, null, 1);
+    return new SearchResponse(
+        internalResponse,
+        null,
+        1,
+        1,
+        0,
+        1,
+        ShardSearchFailure.EMPTY_ARRAY,
+        SearchResponse.Clusters.EMPTY);
+  }
+
+  /** A document bound from a hit source. */
+  static class Item {
+    public String name;
+    public int price;
+  }
+}
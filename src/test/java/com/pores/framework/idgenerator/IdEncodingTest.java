@@ -0,0 +1,99 @@
+package com.pores.framework.idgenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+class IdEncodingTest {
+
+  private static final UUID MIN = new UUID(0, 0);
+  private static final UUID MAX = new UUID(-1, -1);
+  private static final String BASE32_DIGITS = "0123456789ABCDEFGHJKMNPQRSTVWXYZ";
+  private static final String BASE62_DIGITS =
+      "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz";
+
+  private static final Comparator<UUID> UNSIGNED_ORDER =
+      Comparator.comparing(UUID::getMostSignificantBits, Long::compareUnsigned)
+          .thenComparing(UUID::getLeastSignificantBits, Long::compareUnsigned);
+
+  @Test
+  void encodesBoundsAtFixedWidth() {
+    assertEquals("00000000000000000000000000", IdEncoding.BASE32.encode(MIN));
+    assertEquals("7ZZZZZZZZZZZZZZZZZZZZZZZZZ", IdEncoding.BASE32.encode(MAX));
+    assertEquals("0000000000000000000000", IdEncoding.BASE62.encode(MIN));
+    assertEquals("7n42DGM5Tflk9n8mt7Fhc7", IdEncoding.BASE62.encode(MAX));
+  }
+
+  @Test
+  void matchesBigIntegerConversion() {
+    Random random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      UUID uuid = new UUID(random.nextLong(), random.nextLong());
+      BigInteger value = unsigned(uuid);
+      assertEquals(value, decode(IdEncoding.BASE62.encode(uuid), 62, BASE62_DIGITS));
+      assertEquals(value, decode(IdEncoding.BASE32.encode(uuid), 32, BASE32_DIGITS));
+    }
+  }
+
+  @Test
+  void preservesUnsignedSortOrder() {
+    Random random = new Random(7);
+    List<UUID> uuids = new ArrayList<>();
+    uuids.add(MIN);
+    uuids.add(MAX);
+    for (int i = 0; i < 2_000; i++) {
+      long msb = random.nextLong();
+      uuids.add(new UUID(msb, random.nextLong()));
+      // Neighbours sharing the high bits exercise the low limbs
+      uuids.add(new UUID(msb, random.nextLong()));
+    }
+    uuids.sort(UNSIGNED_ORDER);
+    for (IdEncoding encoding : new IdEncoding[] {IdEncoding.BASE32, IdEncoding.BASE62}) {
+      for (int i = 1; i < uuids.size(); i++) {
+        int expected = Integer.signum(UNSIGNED_ORDER.compare(uuids.get(i - 1), uuids.get(i)));
+        int actual =
+            Integer.signum(
+                encoding.encode(uuids.get(i - 1)).compareTo(encoding.encode(uuids.get(i))));
+        assertEquals(expected, actual, encoding + " at " + uuids.get(i));
+      }
+    }
+  }
+
+  @Test
+  void canonicalMatchesUuidToString() {
+    UUID uuid = UUID.randomUUID();
+    assertEquals(uuid.toString(), IdEncoding.CANONICAL.encode(uuid));
+    assertTrue(IdEncoding.CANONICAL.encode(MIN).compareTo(IdEncoding.CANONICAL.encode(MAX)) < 0);
+  }
+
+  private static BigInteger unsigned(UUID uuid) {
+    return new BigInteger(1, toBytes(uuid));
+  }
+
+  private static byte[] toBytes(UUID uuid) {
+    byte[] bytes = new byte[16];
+    long msb = uuid.getMostSignificantBits();
+    long lsb = uuid.getLeastSignificantBits();
+    for (int i = 0; i < 8; i++) {
+      bytes[i] = (byte) (msb >>> (56 - 8 * i));
+      bytes[8 + i] = (byte) (lsb >>> (56 - 8 * i));
+    }
+    return bytes;
+  }
+
+  private static BigInteger decode(String encoded, int radix, String digits) {
+    BigInteger value = BigInteger.ZERO;
+    for (char c : encoded.toCharArray()) {
+      value = value.multiply(BigInteger.valueOf(radix)).add(BigInteger.valueOf(digits.indexOf(c)));
+    }
+    return value;
+  }
+}
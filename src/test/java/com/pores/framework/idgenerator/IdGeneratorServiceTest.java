@@ -0,0 +1,131 @@
+package com.pores.framework.idgenerator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+class IdGeneratorServiceTest {
+
+  private static final int THREADS = 8;
+  private static final int IDS_PER_THREAD = 20_000;
+
+  @Test
+  void generatesVersion7Layout() {
+    IdGeneratorService service =
+        new IdGeneratorService(IdVersion.V7, IdEncoding.CANONICAL, () -> 1_700_000_000_000L);
+    UUID uuid = service.nextUuid();
+    assertEquals(7, uuid.version());
+    assertEquals(2, uuid.variant());
+    assertEquals(1_700_000_000_000L, timestamp(uuid));
+  }
+
+  @Test
+  void staysStrictlyIncreasingUnderContention() throws Exception {
+    IdGeneratorService service = new IdGeneratorService(IdVersion.V7, IdEncoding.CANONICAL);
+    ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+    CountDownLatch start = new CountDownLatch(1);
+    try {
+      List<Future<List<UUID>>> futures = new ArrayList<>();
+      for (int t = 0; t < THREADS; t++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  start.await();
+                  List<UUID> uuids = new ArrayList<>(IDS_PER_THREAD);
+                  for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    uuids.add(service.nextUuid());
+                  }
+                  return uuids;
+                }));
+      }
+      start.countDown();
+      List<Long> states = new ArrayList<>(THREADS * IDS_PER_THREAD);
+      for (Future<List<UUID>> future : futures) {
+        List<UUID> uuids = future.get(30, TimeUnit.SECONDS);
+        for (int i = 1; i < uuids.size(); i++) {
+          assertTrue(state(uuids.get(i - 1)) < state(uuids.get(i)));
+        }
+        uuids.forEach(uuid -> states.add(state(uuid)));
+      }
+      Collections.sort(states);
+      for (int i = 1; i < states.size(); i++) {
+        assertTrue(states.get(i - 1) < states.get(i), "Duplicate state " + states.get(i));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void reservesBatchAsConsecutiveStates() {
+    IdGeneratorService service =
+        new IdGeneratorService(IdVersion.V7, IdEncoding.CANONICAL, () -> 1_000L);
+    List<UUID> batch = service.nextUuids(5);
+    assertEquals(5, batch.size());
+    for (int i = 0; i < batch.size(); i++) {
+      assertEquals((1_000L << 12) + i, state(batch.get(i)));
+    }
+    assertEquals((1_000L << 12) + 5, state(service.nextUuid()));
+    assertTrue(service.nextUuids(0).isEmpty());
+    assertThrows(IllegalArgumentException.class, () -> service.nextUuids(-1));
+  }
+
+  @Test
+  void carriesCounterOverflowIntoTimestamp() {
+    IdGeneratorService service =
+        new IdGeneratorService(IdVersion.V7, IdEncoding.CANONICAL, () -> 1_000L);
+    List<UUID> batch = service.nextUuids(4097);
+    assertEquals(1_000L, timestamp(batch.get(4095)));
+    assertEquals(1_001L, timestamp(batch.get(4096)));
+    assertEquals(0, batch.get(4096).getMostSignificantBits() & 0xFFF);
+  }
+
+  @Test
+  void keepsIncreasingWhenClockStepsBack() {
+    AtomicLong now = new AtomicLong(10_000L);
+    IdGeneratorService service = new IdGeneratorService(IdVersion.V7, IdEncoding.BASE62, now::get);
+    UUID before = service.nextUuid();
+    String beforeId = IdEncoding.BASE62.encode(before);
+    now.set(5_000L);
+    UUID after = service.nextUuid();
+
+    assertEquals(10_000L, timestamp(after));
+    assertTrue(state(before) < state(after));
+    assertTrue(beforeId.compareTo(IdEncoding.BASE62.encode(after)) < 0);
+
+    now.set(20_000L);
+    assertEquals(20_000L, timestamp(service.nextUuid()));
+  }
+
+  @Test
+  void encodedIdsSortInGenerationOrder() {
+    for (IdEncoding encoding : new IdEncoding[] {IdEncoding.BASE32, IdEncoding.BASE62}) {
+      IdGeneratorService service = new IdGeneratorService(IdVersion.V7, encoding);
+      List<String> ids = service.nextIds(10_000);
+      List<String> sorted = new ArrayList<>(ids);
+      Collections.sort(sorted);
+      assertEquals(sorted, ids, encoding.name());
+    }
+  }
+
+  private static long timestamp(UUID uuid) {
+    return uuid.getMostSignificantBits() >>> 16;
+  }
+
+  private static long state(UUID uuid) {
+    return (timestamp(uuid) << 12) | (uuid.getMostSignificantBits() & 0xFFF);
+  }
+}
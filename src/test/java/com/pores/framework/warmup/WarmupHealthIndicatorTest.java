@@ -0,0 +1,68 @@
+package com.pores.framework.warmup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.pores.framework.warmup.StartupWarmer.TaskState;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthEndpointGroup;
+import org.springframework.boot.actuate.health.HealthEndpointGroups;
+import org.springframework.boot.actuate.health.Status;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+class WarmupHealthIndicatorTest {
+
+  @Test
+  void isOutOfServiceWhileTasksAreRunning() {
+    Map<String, TaskState> states = new HashMap<>();
+    states.put("redis", TaskState.DONE);
+    states.put("elasticsearch", TaskState.PENDING);
+
+    assertEquals(Status.OUT_OF_SERVICE, health(states, Collections.emptyMap()).getStatus());
+  }
+
+  @Test
+  void staysUpAndReportsFailedTasks() {
+    Map<String, TaskState> states = new HashMap<>();
+    states.put("redis", TaskState.FAILED);
+    states.put("elasticsearch", TaskState.DONE);
+    Map<String, String> failures = Collections.singletonMap("redis", "Connection refused");
+
+    Health health = health(states, failures);
+
+    assertEquals(Status.UP, health.getStatus());
+    assertEquals(failures, health.getDetails().get("failures"));
+  }
+
+  @Test
+  void primaryGroupExcludesWarmupIndicator() {
+    HealthEndpointGroup primary = mock(HealthEndpointGroup.class);
+    HealthEndpointGroup readiness = mock(HealthEndpointGroup.class);
+    when(primary.isMember("db")).thenReturn(true);
+    when(primary.isMember(WarmupHealthIndicator.NAME)).thenReturn(true);
+    HealthEndpointGroups groups =
+        new WarmupHealthGroupsPostProcessor()
+            .postProcessHealthEndpointGroups(
+                HealthEndpointGroups.of(primary, Collections.singletonMap("readiness", readiness)));
+
+    assertTrue(groups.getPrimary().isMember("db"));
+    assertFalse(groups.getPrimary().isMember(WarmupHealthIndicator.NAME));
+    assertSame(readiness, groups.get("readiness"));
+  }
+
+  private static Health health(Map<String, TaskState> states, Map<String, String> failures) {
+    StartupWarmer startupWarmer = mock(StartupWarmer.class);
+    when(startupWarmer.getMode()).thenReturn(WarmupMode.BACKGROUND);
+    when(startupWarmer.getTaskStates()).thenReturn(states);
+    when(startupWarmer.getFailures()).thenReturn(failures);
+    return new WarmupHealthIndicator(startupWarmer).health();
+  }
+}